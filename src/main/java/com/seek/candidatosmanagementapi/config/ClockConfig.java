@@ -0,0 +1,21 @@
+package com.seek.candidatosmanagementapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Reloj de la aplicación. Los cálculos que dependen de "hoy" lo reciben inyectado
+ * para que todas las filas de una respuesta usen la misma fecha y se puedan probar.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
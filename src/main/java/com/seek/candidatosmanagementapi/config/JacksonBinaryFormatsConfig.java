@@ -0,0 +1,38 @@
+package com.seek.candidatosmanagementapi.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Formatos binarios de Jackson (Smile y CBOR) para consumidores internos.
+ *
+ * Los convertidores se construyen con el mismo {@link Jackson2ObjectMapperBuilder} que usa JSON,
+ * así los DTO se serializan con la misma configuración (fechas ISO, módulos registrados).
+ * Spring Boot los agrega a la negociación de contenido reemplazando los convertidores por defecto.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Configuration
+public class JacksonBinaryFormatsConfig {
+
+    /** Tipo de contenido de Smile aceptado en el header Accept */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+}
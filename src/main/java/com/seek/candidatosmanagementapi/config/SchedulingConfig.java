@@ -0,0 +1,14 @@
+package com.seek.candidatosmanagementapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (verificación de agregados de métricas).
+ *
+ * @author Jose Osorio Catalan
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
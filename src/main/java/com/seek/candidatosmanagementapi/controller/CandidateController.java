@@ -1,11 +1,27 @@
 package com.seek.candidatosmanagementapi.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.seek.candidatosmanagementapi.config.JacksonBinaryFormatsConfig;
+import com.seek.candidatosmanagementapi.dto.AgeDistributionResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidatePageResponse;
 import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CohortStatsResponse;
 import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
 import com.seek.candidatosmanagementapi.dto.ErrorResponse;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
+import com.seek.candidatosmanagementapi.dto.MetricsHistoryPoint;
 import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.service.CandidateListSnapshot;
 import com.seek.candidatosmanagementapi.service.CandidateService;
+import com.seek.candidatosmanagementapi.service.CandidateTableVersion;
+import com.seek.candidatosmanagementapi.service.MetricsStream;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,11 +29,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -33,47 +63,414 @@ import java.util.List;
 @SecurityRequirement(name = "basicAuth")
 public class CandidateController {
 
+    /** Tamaño máximo de página permitido en la paginación por cursor */
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /** Cantidad máxima de candidatos por carga masiva */
+    private static final int MAX_BULK_SIZE = 100_000;
+
+    /** Header con el que el cliente hace idempotentes las altas y cargas masivas */
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** Representación por defecto; la única que puede servir el snapshot pre-serializado */
+    private static final String JSON = "json";
+
     private final CandidateService service;
+    private final CandidateTableVersion tableVersion;
+    private final CandidateListSnapshot listSnapshot;
+    private final MetricsStream metricsStream;
+    private final ObjectMapper objectMapper;
 
     /**
      * Crea un nuevo candidato en el sistema.
+     * Acepta y responde JSON, Smile o CBOR según los headers Content-Type y Accept.
+     * Con Idempotency-Key, un reintento con el mismo cuerpo devuelve el candidato creado la primera vez.
      */
-    @Operation(summary = "Crear candidato", description = "Registra un nuevo candidato con validación de edad")
+    @Operation(summary = "Crear candidato", description = "Registra un nuevo candidato con validación de edad. "
+            + "Con el header Idempotency-Key, los reintentos con el mismo cuerpo devuelven la respuesta original")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Candidato creado",
                     content = @Content(schema = @Schema(implementation = CandidateResponse.class))),
             @ApiResponse(responseCode = "400", description = "Datos inválidos",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "Error de negocio",
+            @ApiResponse(responseCode = "409", description = "Error de negocio o Idempotency-Key reutilizada",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Ya existe un candidato con el mismo nombre, apellido y fecha de nacimiento",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "El alta no se confirmó a tiempo (group commit); reintentar según Retry-After",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<CandidateResponse> create(@Valid @RequestBody CreateCandidateRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(service.createCandidate(request));
+    public ResponseEntity<CandidateResponse> create(
+            @Valid @RequestBody CreateCandidateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.createCandidate(request, idempotencyKey));
+    }
+
+    /**
+     * Crea varios candidatos con inserciones en lotes JDBC, normalmente en una sola transacción.
+     * Las filas inválidas o duplicadas se informan en la respuesta y no impiden insertar las demás.
+     * Acepta Idempotency-Key igual que el alta individual.
+     */
+    @Operation(summary = "Carga masiva de candidatos",
+            description = "Recibe un arreglo de hasta " + MAX_BULK_SIZE + " candidatos, inserta los válidos en lotes "
+                    + "y responde el resultado de cada fila y las filas insertadas por segundo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Carga procesada",
+                    content = @Content(schema = @Schema(implementation = BulkCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Arreglo vacío o demasiado grande",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Idempotency-Key usada con otro contenido o en proceso",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse> createBulk(
+            @RequestBody @NotEmpty(message = "La carga masiva debe incluir al menos un candidato")
+            @Size(max = MAX_BULK_SIZE, message = "La carga masiva no puede superar " + MAX_BULK_SIZE + " candidatos")
+            List<CreateCandidateRequest> requests,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(service.createCandidates(requests, idempotencyKey));
+    }
+
+    /**
+     * Acepta un alta para la ingesta asíncrona: se valida, se guarda en el journal local y se responde
+     * 202 sin esperar a la base de datos. El estado se consulta en el header Location.
+     */
+    @Operation(summary = "Aceptar candidato (asíncrono)",
+            description = "Valida el candidato, lo guarda en el journal local y responde 202 con un tracking ID; "
+                    + "la inserción en la base ocurre en segundo plano")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Candidato aceptado",
+                    content = @Content(schema = @Schema(implementation = IngestionStatusResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Error de negocio, ingesta deshabilitada o journal lleno",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/ingestions")
+    public ResponseEntity<IngestionStatusResponse> accept(@Valid @RequestBody CreateCandidateRequest request) {
+        IngestionStatusResponse accepted = service.acceptCandidate(request);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{trackingId}")
+                        .buildAndExpand(accepted.getTrackingId())
+                        .toUri())
+                .body(accepted);
     }
 
     /**
-     * Obtiene todos los candidatos registrados.
+     * Obtiene el estado de un alta aceptada por la ingesta asíncrona.
      */
-    @Operation(summary = "Listar candidatos", description = "Retorna todos los candidatos con información calculada")
-    @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente")
+    @Operation(summary = "Estado de un alta asíncrona",
+            description = "PENDING mientras está en el journal, APPLIED con el ID del candidato o FAILED con el motivo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estado obtenido",
+                    content = @Content(schema = @Schema(implementation = IngestionStatusResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Tracking ID desconocido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/ingestions/{trackingId}")
+    public ResponseEntity<IngestionStatusResponse> getIngestionStatus(@PathVariable String trackingId) {
+        return ResponseEntity.ok(service.getIngestionStatus(trackingId));
+    }
+
+    /**
+     * Obtiene los candidatos registrados, opcionalmente filtrados y ordenados.
+     * Con {@code fields} solo se leen de la base y se calculan los campos pedidos.
+     * Responde 304 sin consultar la base de datos si el ETag enviado sigue vigente.
+     * Con el snapshot activo, el listado completo en JSON se copia desde los bytes pre-serializados;
+     * si el cliente pide Smile o CBOR se serializa con el convertidor correspondiente.
+     */
+    @Operation(summary = "Listar candidatos",
+            description = "Retorna los candidatos que cumplen los filtros, con información calculada. "
+                    + "sort acepta id, age, birthDate o lastName con dirección asc/desc (ej. age,desc). "
+                    + "fields limita los campos devueltos y calculados (ej. id,firstName,lastName)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CandidateResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "La lista no cambió desde el ETag enviado"),
+            @ApiResponse(responseCode = "400", description = "Filtros u ordenamiento inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
     @GetMapping
-    public ResponseEntity<List<CandidateResponse>> getAll() {
-        return ResponseEntity.ok(service.getAllCandidates());
+    public ResponseEntity<?> getAll(
+            @ParameterObject CandidateFilter filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        String representation = representationOf(webRequest);
+        String etag = tableVersion.currentETag(representation);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (JSON.equals(representation) && listSnapshot.canServe(filter, sort, fields)) {
+            StreamingResponseBody body = listSnapshot::writeTo;
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getAllCandidates(filter, sort, fields));
+    }
+
+    /**
+     * Obtiene una página de candidatos con paginación por cursor (keyset sobre campo de orden e ID).
+     * Se activa al enviar el parámetro {@code limit}; {@code after} es el cursor de la página anterior
+     * y debe usarse con los mismos filtros y ordenamiento.
+     */
+    @Operation(summary = "Listar candidatos paginados",
+            description = "Retorna una página filtrada y ordenada, y el cursor para pedir la siguiente")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página obtenida exitosamente",
+                    content = @Content(schema = @Schema(implementation = CandidatePageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "La página no cambió desde el ETag enviado"),
+            @ApiResponse(responseCode = "400", description = "Límite, cursor, filtros u ordenamiento inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<CandidatePageResponse> getPage(
+            @ParameterObject CandidateFilter filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam @Min(value = 1, message = "El límite debe ser al menos 1")
+            @Max(value = MAX_PAGE_SIZE, message = "El límite no puede superar " + MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest) {
+        String etag = tableVersion.currentETag(representationOf(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getCandidatesPage(filter, sort, fields, after, limit));
+    }
+
+    /**
+     * Obtiene los N candidatos de mayor o menor edad, sin descargar el listado completo.
+     */
+    @Operation(summary = "Top de candidatos por edad",
+            description = "Retorna los n candidatos de mayor edad (order=desc) o menor edad (order=asc). "
+                    + "by acepta age (por defecto) o birthDate")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Top obtenido exitosamente",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CandidateResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "El top no cambió desde el ETag enviado"),
+            @ApiResponse(responseCode = "400", description = "Campo, orden o cantidad inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/top")
+    public ResponseEntity<List<CandidateResponse>> getTop(
+            @RequestParam(required = false) String by,
+            @RequestParam(required = false) String order,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "n debe ser al menos 1")
+            @Max(value = MAX_PAGE_SIZE, message = "n no puede superar " + MAX_PAGE_SIZE) int n,
+            WebRequest webRequest) {
+        String etag = tableVersion.currentETag(representationOf(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getTopCandidates(by, order, n));
+    }
+
+    /**
+     * Transmite todos los candidatos como NDJSON (un objeto JSON por línea).
+     * Cada fila se escribe en la respuesta apenas se mapea, sin armar la lista completa en memoria.
+     */
+    @Operation(summary = "Exportar candidatos (NDJSON)",
+            description = "Transmite todos los candidatos en formato application/x-ndjson, pensado para sincronizaciones masivas")
+    @ApiResponse(responseCode = "200", description = "Transmisión iniciada",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = CandidateResponse.class)))
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        ObjectWriter writer = objectMapper.writerFor(CandidateResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.setRootValueSeparator(null);
+                service.streamAllCandidates(candidate -> {
+                    try {
+                        writer.writeValue(generator, candidate);
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * Calcula métricas de edad de todos los candidatos.
+     * Con {@code mode=approximate} estima sobre una muestra e incluye los intervalos de confianza.
+     * Responde 304 sin recalcular si el ETag enviado sigue vigente.
      */
-    @Operation(summary = "Métricas de edad", description = "Promedio y desviación estándar de edades")
+    @Operation(summary = "Métricas de edad",
+            description = "Promedio y desviación estándar de edades. mode=approximate estima sobre una muestra "
+                    + "aleatoria e informa el tamaño de la muestra y los intervalos para el nivel confidence (0.80, 0.90, 0.95 o 0.99; por defecto 0.95)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Métricas calculadas",
                     content = @Content(schema = @Schema(implementation = MetricsResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Las métricas no cambiaron desde el ETag enviado"),
+            @ApiResponse(responseCode = "400", description = "Modo o nivel de confianza inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "No hay candidatos",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/metrics")
-    public ResponseEntity<MetricsResponse> getMetrics() {
-        return ResponseEntity.ok(service.getMetrics());
+    public ResponseEntity<MetricsResponse> getMetrics(
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) Double confidence,
+            WebRequest webRequest) {
+        String etag = tableVersion.currentETag(representationOf(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getMetrics(mode, confidence));
+    }
+
+    /**
+     * Distribución de edades: histograma, percentiles, moda, mínimo y máximo.
+     * Se calcula con las edades a la fecha del día desde las fechas en memoria; responde 304 si el ETag enviado sigue vigente.
+     */
+    @Operation(summary = "Distribución de edades",
+            description = "Histograma por edad, percentiles (p50, p90, p95, p99), moda, mínimo y máximo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Distribución calculada",
+                    content = @Content(schema = @Schema(implementation = AgeDistributionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "La distribución no cambió desde el ETag enviado"),
+            @ApiResponse(responseCode = "409", description = "No hay candidatos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/metrics/distribution")
+    public ResponseEntity<AgeDistributionResponse> getAgeDistribution(WebRequest webRequest) {
+        String etag = tableVersion.currentETag(representationOf(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getAgeDistribution());
+    }
+
+    /**
+     * Cantidad y edad promedio por cohorte de nacimiento (década o año).
+     * Se lee de la tabla resumen "candidate_cohort_stats"; responde 304 si el ETag enviado sigue vigente.
+     */
+    @Operation(summary = "Métricas por cohorte",
+            description = "Cantidad y edad promedio por década (decade, por defecto) o año (year) de nacimiento")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Métricas calculadas",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CohortStatsResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Las métricas no cambiaron desde el ETag enviado"),
+            @ApiResponse(responseCode = "400", description = "Granularidad inválida",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/metrics/cohorts")
+    public ResponseEntity<List<CohortStatsResponse>> getCohortMetrics(
+            @RequestParam(required = false) String granularity,
+            WebRequest webRequest) {
+        String etag = tableVersion.currentETag(representationOf(webRequest));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(etag)
+                .body(service.getCohortMetrics(granularity));
+    }
+
+    /**
+     * Historial de métricas de edad tomado periódicamente, opcionalmente muestreado cada {@code step}.
+     */
+    @Operation(summary = "Historial de métricas",
+            description = "Fotos periódicas de promedio, desviación estándar y cantidad de candidatos. "
+                    + "from/to en ISO-8601 (por defecto las últimas 24 horas); step como duración ISO-8601 (ej. PT1H)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Historial obtenido",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = MetricsHistoryPoint.class)))),
+            @ApiResponse(responseCode = "400", description = "Rango o step inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/metrics/history")
+    public ResponseEntity<List<MetricsHistoryPoint>> getMetricsHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String step) {
+        return ResponseEntity.ok(service.getMetricsHistory(from, to, step));
+    }
+
+    /**
+     * Stream de métricas en vivo (Server-Sent Events): un evento al conectarse y otro cada vez
+     * que se crean candidatos, a lo sumo uno por intervalo.
+     */
+    @Operation(summary = "Stream de métricas",
+            description = "Server-Sent Events con evento \"metrics\" (MetricsResponse en JSON) al conectarse "
+                    + "y después de cada alta, a lo sumo uno por METRICS_STREAM_INTERVAL")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream abierto",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = MetricsResponse.class)))
+    })
+    @GetMapping(value = "/metrics/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMetrics() {
+        return metricsStream.subscribe();
+    }
+
+    /**
+     * Formato que recibirá el cliente según el header Accept: Smile o CBOR solo si los pide
+     * explícitamente, JSON en cualquier otro caso (incluye Accept ausente o comodines).
+     */
+    private String representationOf(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+
+        for (MediaType mediaType : accepted) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                return JSON;
+            }
+            if (mediaType.equalsTypeAndSubtype(JacksonBinaryFormatsConfig.APPLICATION_SMILE)) {
+                return "smile";
+            }
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+        }
+        return JSON;
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+
+/**
+ * Cantidad de candidatos con una edad, resultado de un {@code group by} sobre la tabla.
+ * También es cada barra del histograma de {@link AgeDistributionResponse}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgeCount {
+    /** Edad en años */
+    private Integer age;
+    /** Cantidad de candidatos con esa edad */
+    private Long count;
+}
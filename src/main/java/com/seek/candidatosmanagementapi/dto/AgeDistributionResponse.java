@@ -0,0 +1,33 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO para la distribución de edades de los candidatos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgeDistributionResponse {
+    /** Cantidad total de candidatos */
+    private long total;
+
+    /** Edad mínima */
+    private int minAge;
+
+    /** Edad máxima */
+    private int maxAge;
+
+    /** Edad más frecuente (la menor si hay empate) */
+    private int modeAge;
+
+    /** Percentiles de edad por rango más cercano (p50, p90, p95, p99) */
+    private Map<String, Integer> percentiles;
+
+    /** Cantidad de candidatos por edad, solo edades con al menos un candidato */
+    private List<AgeCount> histogram;
+}
@@ -0,0 +1,39 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+
+/**
+ * Agregados de edad calculados por la base de datos en una sola fila.
+ * Con la tabla vacía {@code count} es 0 y las sumas llegan en null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgeStats {
+    /** Cantidad de candidatos */
+    private Long count;
+    /** Suma de las edades */
+    private Long sum;
+    /** Suma de los cuadrados de las edades */
+    private Long sumOfSquares;
+
+    /**
+     * Edad promedio; 0 si no hay candidatos.
+     */
+    public double average() {
+        return count == null || count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Desviación estándar poblacional: {@code sqrt(sumSq/n - promedio²)}, acotada en 0
+     * por el redondeo de punto flotante; 0 si no hay candidatos.
+     */
+    public double populationStdDeviation() {
+        if (count == null || count == 0) {
+            return 0.0;
+        }
+        double average = average();
+        return Math.sqrt(Math.max(0.0, (double) sumOfSquares / count - average * average));
+    }
+}
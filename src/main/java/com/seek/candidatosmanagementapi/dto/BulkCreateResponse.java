@@ -0,0 +1,31 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * DTO de respuesta de la carga masiva: totales, rendimiento y resultado de cada fila.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponse {
+    /** Filas recibidas */
+    private Integer requested;
+
+    /** Filas insertadas */
+    private Integer created;
+
+    /** Filas rechazadas por validación */
+    private Integer rejected;
+
+    /** Duración total (validación, inserción y commit) en milisegundos */
+    private Long elapsedMillis;
+
+    /** Filas insertadas por segundo sobre la duración total */
+    private Double rowsPerSecond;
+
+    /** Resultado de cada fila, en el orden recibido */
+    private List<BulkCreateResult> results;
+}
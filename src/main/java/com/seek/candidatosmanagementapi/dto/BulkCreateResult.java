@@ -0,0 +1,37 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Resultado de una fila de la carga masiva de candidatos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCreateResult {
+
+    /**
+     * Estado de la fila.
+     */
+    public enum Status {
+        /** Insertada */
+        CREATED,
+        /** Descartada por no cumplir las validaciones */
+        REJECTED
+    }
+
+    /** Posición de la fila en el arreglo recibido (desde 0) */
+    private Integer index;
+
+    /** Estado de la fila */
+    private Status status;
+
+    /** ID asignado (solo si fue creada) */
+    private Long id;
+
+    /** Motivo del rechazo (solo si fue rechazada) */
+    private String error;
+}
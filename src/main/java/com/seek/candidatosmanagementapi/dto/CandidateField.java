@@ -0,0 +1,65 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+import lombok.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de {@link CandidateResponse} que se pueden pedir con el parámetro {@code fields}.
+ * Cada campo indica la columna que necesita leer; los derivados dependen de la fecha de nacimiento.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CandidateField {
+    ID("id", "id"),
+    FIRST_NAME("firstName", "firstName"),
+    LAST_NAME("lastName", "lastName"),
+    AGE("age", "age"),
+    BIRTH_DATE("birthDate", "birthDate"),
+    ESTIMATED_EVENT_DATE("estimatedEventDate", "birthDate"),
+    NEXT_BIRTHDAY("nextBirthday", "birthDate"),
+    DAYS_TO_NEXT_BIRTHDAY("daysToNextBirthday", "birthDate"),
+    AGE_IN_MONTHS("ageInMonths", "birthDate");
+
+    /** Todos los campos: respuesta completa */
+    public static final Set<CandidateField> ALL = Collections.unmodifiableSet(EnumSet.allOf(CandidateField.class));
+
+    /** Nombre del campo en la respuesta y en el parámetro de consulta */
+    private final String property;
+    /** Atributo de la entidad que hay que leer para obtener el campo */
+    private final String column;
+
+    /**
+     * Interpreta el parámetro {@code fields} como lista separada por comas; null o vacío equivale a todos.
+     * @throws BadRequestException si algún campo no existe
+     */
+    public static Set<CandidateField> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<CandidateField> fields = EnumSet.noneOf(CandidateField.class);
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            fields.add(Arrays.stream(values())
+                    .filter(f -> f.getProperty().equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(String.format(
+                            "El campo '%s' no existe. Campos permitidos: %s", trimmed,
+                            Arrays.stream(values()).map(CandidateField::getProperty).collect(Collectors.joining(", "))))));
+        }
+
+        if (fields.isEmpty()) {
+            throw new BadRequestException("Debe indicar al menos un campo en fields");
+        }
+        return fields.size() == ALL.size() ? ALL : Collections.unmodifiableSet(fields);
+    }
+}
@@ -0,0 +1,32 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+
+/**
+ * Filtros opcionales del listado de candidatos, recibidos como parámetros de consulta.
+ * Todos los límites son inclusivos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateFilter {
+    /** Edad mínima */
+    private Integer minAge;
+
+    /** Edad máxima */
+    private Integer maxAge;
+
+    /** Nacidos desde esta fecha */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornAfter;
+
+    /** Nacidos hasta esta fecha */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornBefore;
+
+    /** Prefijo del apellido */
+    private String lastNamePrefix;
+}
@@ -0,0 +1,19 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * DTO para devolver una página de candidatos con paginación por cursor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidatePageResponse {
+    /** Candidatos de la página, ordenados por ID */
+    private List<CandidateResponse> items;
+
+    /** Cursor opaco para pedir la siguiente página (null si no hay más) */
+    private String nextCursor;
+}
@@ -1,12 +1,15 @@
 package com.seek.candidatosmanagementapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.time.LocalDate;
 
 /**
  * DTO para devolver información de un candidato.
+ * Los campos no pedidos con {@code fields} quedan en null y no se serializan.
  */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
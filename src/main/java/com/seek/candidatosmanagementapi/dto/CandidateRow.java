@@ -0,0 +1,25 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * Proyección de solo lectura de la tabla "candidates".
+ * Se construye con una expresión {@code select new} y no pasa por el contexto de persistencia.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateRow {
+    /** ID del candidato */
+    private Long id;
+    /** Nombre */
+    private String firstName;
+    /** Apellido */
+    private String lastName;
+    /** Edad en años */
+    private Integer age;
+    /** Fecha de nacimiento */
+    private LocalDate birthDate;
+}
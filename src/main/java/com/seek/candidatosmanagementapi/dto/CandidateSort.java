@@ -0,0 +1,71 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+import lombok.*;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Ordenamiento del listado de candidatos, recibido como {@code campo[,asc|desc]}.
+ * El ID siempre se usa como desempate, en la misma dirección, para que el orden sea estable.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CandidateSort {
+
+    /** Ordenamiento por defecto: ID ascendente */
+    public static final CandidateSort DEFAULT = new CandidateSort(Field.ID, true);
+
+    /**
+     * Campos por los que se puede ordenar; cada uno tiene un índice que respalda el orden.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Field {
+        ID("id"),
+        AGE("age"),
+        BIRTH_DATE("birthDate"),
+        LAST_NAME("lastName");
+
+        /** Nombre del atributo en la entidad y en el parámetro de consulta */
+        private final String property;
+    }
+
+    private final Field field;
+    private final boolean ascending;
+
+    /**
+     * Interpreta el parámetro {@code sort}; null o vacío equivale al orden por defecto.
+     * @throws BadRequestException si el campo o la dirección no son válidos
+     */
+    public static CandidateSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+
+        String[] parts = value.trim().split(",", -1);
+        if (parts.length > 2) {
+            throw new BadRequestException("El ordenamiento debe tener el formato campo[,asc|desc]");
+        }
+
+        Field field = Arrays.stream(Field.values())
+                .filter(f -> f.getProperty().equals(parts[0].trim()))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(String.format(
+                        "No se puede ordenar por '%s'. Campos permitidos: id, age, birthDate, lastName", parts[0].trim())));
+
+        String direction = parts.length == 2 ? parts[1].trim().toLowerCase(Locale.ROOT) : "asc";
+        if (!direction.equals("asc") && !direction.equals("desc")) {
+            throw new BadRequestException("La dirección del ordenamiento debe ser asc o desc");
+        }
+
+        return new CandidateSort(field, direction.equals("asc"));
+    }
+
+    @Override
+    public String toString() {
+        return field.getProperty() + "," + (ascending ? "asc" : "desc");
+    }
+}
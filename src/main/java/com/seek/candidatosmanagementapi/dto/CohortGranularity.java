@@ -0,0 +1,45 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+import lombok.*;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Agrupación de las cohortes de nacimiento, recibida como {@code decade} o {@code year}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CohortGranularity {
+    YEAR("year", 1),
+    DECADE("decade", 10);
+
+    /** Nombre en el parámetro de consulta */
+    private final String value;
+    /** Años que abarca cada cohorte */
+    private final int years;
+
+    /**
+     * Interpreta el parámetro {@code granularity}; null o vacío equivale a década.
+     * @throws BadRequestException si el valor no es decade ni year
+     */
+    public static CohortGranularity parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DECADE;
+        }
+
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(g -> g.getValue().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("La granularidad debe ser decade o year"));
+    }
+
+    /**
+     * Primer año de la cohorte a la que pertenece el año de nacimiento.
+     */
+    public int cohortOf(int birthYear) {
+        return Math.floorDiv(birthYear, years) * years;
+    }
+}
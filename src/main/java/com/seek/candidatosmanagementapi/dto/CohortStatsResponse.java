@@ -0,0 +1,21 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+
+/**
+ * DTO para las métricas de una cohorte de nacimiento (año o década).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CohortStatsResponse {
+    /** Año de nacimiento, o primer año de la década */
+    private int cohort;
+
+    /** Cantidad de candidatos de la cohorte */
+    private long candidateCount;
+
+    /** Edad promedio de los candidatos de la cohorte */
+    private double averageAge;
+}
@@ -12,12 +12,14 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CreateCandidateRequest {
-    /** Nombre del candidato (no puede estar vacío) */
+    /** Nombre del candidato (no puede estar vacío, hasta 255 caracteres como la columna) */
     @NotBlank(message = "El nombre es obligatorio")
+    @Size(max = 255, message = "El nombre no puede superar los 255 caracteres")
     private String firstName;
 
-    /** Apellido del candidato (no puede estar vacío) */
+    /** Apellido del candidato (no puede estar vacío, hasta 255 caracteres como la columna) */
     @NotBlank(message = "El apellido es obligatorio")
+    @Size(max = 255, message = "El apellido no puede superar los 255 caracteres")
     private String lastName;
 
     /** Edad del candidato (no puede ser nula, mínimo 0) */
@@ -0,0 +1,39 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * DTO con el estado de un alta recibida por la ingesta asíncrona.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestionStatusResponse {
+
+    /**
+     * Estado del alta.
+     */
+    public enum Status {
+        /** Guardada en el journal, todavía no insertada */
+        PENDING,
+        /** Insertada en la base de datos */
+        APPLIED,
+        /** Descartada al insertar (por ejemplo, por integridad de datos) */
+        FAILED
+    }
+
+    /** Identificador de seguimiento */
+    private String trackingId;
+
+    /** Estado del alta */
+    private Status status;
+
+    /** ID del candidato creado (solo si se aplicó) */
+    private Long candidateId;
+
+    /** Motivo del fallo (solo si falló) */
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.seek.candidatosmanagementapi.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * DTO para un punto del historial de métricas de edad.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricsHistoryPoint {
+    /** Momento de la foto */
+    private Instant capturedAt;
+
+    /** Cantidad de candidatos */
+    private long candidateCount;
+
+    /** Edad promedio de los candidatos */
+    private double averageAge;
+
+    /** Desviación estándar de las edades */
+    private double ageStdDeviation;
+}
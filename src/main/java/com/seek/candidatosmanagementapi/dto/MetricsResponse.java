@@ -1,11 +1,15 @@
 package com.seek.candidatosmanagementapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 /**
  * DTO para métricas de edad de los candidatos.
+ * En modo aproximado incluye el tamaño de la muestra y los intervalos de confianza;
+ * en modo exacto esos campos quedan en null y no se serializan.
  */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +19,22 @@ public class MetricsResponse {
 
     /** Desviación estándar de las edades */
     private double ageStdDeviation;
+
+    /** Cantidad de candidatos muestreados (solo modo aproximado) */
+    private Integer sampleSize;
+
+    /** Nivel de confianza de los intervalos (solo modo aproximado) */
+    private Double confidence;
+
+    /** Límite inferior del intervalo del promedio */
+    private Double averageAgeLower;
+
+    /** Límite superior del intervalo del promedio */
+    private Double averageAgeUpper;
+
+    /** Límite inferior del intervalo de la desviación estándar */
+    private Double ageStdDeviationLower;
+
+    /** Límite superior del intervalo de la desviación estándar */
+    private Double ageStdDeviationUpper;
 }
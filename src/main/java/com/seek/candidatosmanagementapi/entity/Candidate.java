@@ -15,11 +15,23 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class Candidate {
 
+    /**
+     * Cantidad de IDs que cada instancia reserva por acceso a "candidate_id_generator".
+     * Debe coincidir con la siembra de V6__create_candidate_id_generator.sql.
+     */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     /**
      * Identificador único del candidato.
+     * Se asigna con un generador por tabla en bloques (hi-lo "pooled"), así Hibernate conoce
+     * el ID antes del INSERT y puede agrupar las inserciones en lotes JDBC; con IDENTITY cada
+     * fila necesita su propio INSERT para obtener el ID generado.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "candidate_id")
+    @TableGenerator(name = "candidate_id", table = "candidate_id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "candidates",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -0,0 +1,41 @@
+package com.seek.candidatosmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Slot de la tabla "candidate_age_stats": agregados parciales de edad que se suman
+ * entre todos los slots para obtener las métricas sin recorrer "candidates".
+ */
+@Entity
+@Table(name = "candidate_age_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateAgeStats {
+
+    /**
+     * Número de slot (0 a {@code CandidateAgeStatsUpdater.SLOTS - 1}).
+     */
+    @Id
+    private Integer slot;
+
+    /**
+     * Cantidad de candidatos sumados en este slot.
+     */
+    @Column(name = "candidate_count", nullable = false)
+    private Long candidateCount;
+
+    /**
+     * Suma de las edades.
+     */
+    @Column(name = "age_sum", nullable = false)
+    private Long ageSum;
+
+    /**
+     * Suma de los cuadrados de las edades.
+     */
+    @Column(name = "age_sum_squares", nullable = false)
+    private Long ageSumSquares;
+}
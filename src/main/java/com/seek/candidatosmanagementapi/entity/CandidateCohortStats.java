@@ -0,0 +1,35 @@
+package com.seek.candidatosmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Fila de la tabla "candidate_cohort_stats": agregados de los candidatos nacidos en un año.
+ */
+@Entity
+@Table(name = "candidate_cohort_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateCohortStats {
+
+    /**
+     * Año de nacimiento de la cohorte.
+     */
+    @Id
+    @Column(name = "birth_year")
+    private Integer birthYear;
+
+    /**
+     * Cantidad de candidatos nacidos ese año.
+     */
+    @Column(name = "candidate_count", nullable = false)
+    private Long candidateCount;
+
+    /**
+     * Suma de las edades de esos candidatos.
+     */
+    @Column(name = "age_sum", nullable = false)
+    private Long ageSum;
+}
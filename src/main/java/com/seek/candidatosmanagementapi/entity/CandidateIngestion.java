@@ -0,0 +1,49 @@
+package com.seek.candidatosmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Resultado de aplicar un alta de la ingesta asíncrona; mapea la tabla "candidate_ingestions".
+ */
+@Entity
+@Table(name = "candidate_ingestions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateIngestion {
+
+    /**
+     * Identificador de seguimiento entregado al cliente con el 202.
+     */
+    @Id
+    @Column(name = "tracking_id", length = 36)
+    private String trackingId;
+
+    /**
+     * APPLIED o FAILED.
+     */
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    /**
+     * ID del candidato creado (solo si se aplicó).
+     */
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    /**
+     * Motivo del fallo (solo si falló).
+     */
+    @Column
+    private String error;
+
+    /**
+     * Momento en que se aplicó o falló.
+     */
+    @Column(name = "applied_at", nullable = false)
+    private Instant appliedAt;
+}
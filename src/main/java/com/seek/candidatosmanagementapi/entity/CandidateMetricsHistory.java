@@ -0,0 +1,49 @@
+package com.seek.candidatosmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Foto de las métricas de edad en un instante; mapea la tabla "candidate_metrics_history".
+ */
+@Entity
+@Table(name = "candidate_metrics_history")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMetricsHistory {
+
+    /**
+     * Identificador de la foto.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Momento en que se tomó la foto.
+     */
+    @Column(name = "captured_at", nullable = false)
+    private Instant capturedAt;
+
+    /**
+     * Cantidad de candidatos en ese momento.
+     */
+    @Column(name = "candidate_count", nullable = false)
+    private Long candidateCount;
+
+    /**
+     * Edad promedio en ese momento.
+     */
+    @Column(name = "average_age", nullable = false)
+    private Double averageAge;
+
+    /**
+     * Desviación estándar de las edades en ese momento.
+     */
+    @Column(name = "age_std_deviation", nullable = false)
+    private Double ageStdDeviation;
+}
@@ -0,0 +1,50 @@
+package com.seek.candidatosmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key de un alta y su respuesta; mapea la tabla "idempotency_keys".
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    /**
+     * Operación y clave enviada por el cliente (ej. {@code create:3f2a...}).
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String key;
+
+    /**
+     * SHA-256 del cuerpo de la petición original.
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * Respuesta original en JSON; null mientras la petición original está en proceso.
+     */
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String response;
+
+    /**
+     * Momento en que se recibió la petición original.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Momento a partir del cual la clave puede reutilizarse. Mientras la petición original está
+     * en proceso es el vencimiento de la reserva; al guardar la respuesta pasa al de la respuesta.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
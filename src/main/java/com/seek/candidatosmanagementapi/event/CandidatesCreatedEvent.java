@@ -0,0 +1,19 @@
+package com.seek.candidatosmanagementapi.event;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Evento publicado por cada ruta de escritura después de insertar candidatos.
+ * Los componentes que mantienen estado derivado de la tabla (versión, caches, resúmenes)
+ * lo escuchan para actualizarse sin volver a consultar la base de datos.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CandidatesCreatedEvent {
+    /** Candidatos insertados, con el ID ya asignado */
+    private final List<CandidateRow> candidates;
+}
@@ -0,0 +1,25 @@
+package com.seek.candidatosmanagementapi.exception;
+
+/**
+ * Excepción para parámetros de consulta inválidos enviados por el cliente.
+ */
+public class BadRequestException extends RuntimeException {
+    /**
+     * Crea una excepción de petición inválida con un mensaje específico.
+     *
+     * @param message Descripción del parámetro inválido.
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Crea una excepción de petición inválida con mensaje y causa original.
+     *
+     * @param message Descripción del parámetro inválido.
+     * @param cause   Excepción causante original.
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,6 +2,7 @@ package com.seek.candidatosmanagementapi.exception;
 
 import com.seek.candidatosmanagementapi.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -143,6 +144,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(resp);
     }
 
+    /**
+     * Maneja parámetros de consulta inválidos (cursor, filtros, campos).
+     * @param ex excepción BadRequestException con el detalle del parámetro.
+     * @param request contexto de la petición HTTP.
+     * @return respuesta 400 con el mensaje descriptivo.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+        log.warn("Parámetro inválido: {}", ex.getMessage());
+        ErrorResponse resp = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.badRequest().body(resp);
+    }
+
+    /**
+     * Maneja recursos solicitados que no existen.
+     * @param ex excepción NotFoundException con el recurso buscado.
+     * @param request contexto de la petición HTTP.
+     * @return respuesta 404 con el mensaje descriptivo.
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(
+            NotFoundException ex, WebRequest request) {
+        log.warn("Recurso no encontrado: {}", ex.getMessage());
+        ErrorResponse resp = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Not Found")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(resp);
+    }
+
     /**
      * Captura excepciones de lógica de negocio personalizadas.
      * @param ex excepción BusinessException con mensaje de conflicto.
@@ -181,6 +220,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(resp);
     }
 
+    /**
+     * Maneja rechazos por sobrecarga temporal (colas llenas o escrituras que no se confirman a tiempo).
+     * @param ex excepción ServiceUnavailableException con el tiempo sugerido de espera.
+     * @param request contexto de la petición HTTP.
+     * @return respuesta 503 con el header Retry-After en segundos.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+        log.warn("Servicio no disponible: {}", ex.getMessage());
+        ErrorResponse resp = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(resp);
+    }
+
     /**
      * Captura cualquier excepción no prevista y devuelve un 500 genérico.
      * @param ex excepción genérica ocurrida en el servidor.
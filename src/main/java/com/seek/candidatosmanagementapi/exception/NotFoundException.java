@@ -0,0 +1,15 @@
+package com.seek.candidatosmanagementapi.exception;
+
+/**
+ * Excepción para recursos solicitados que no existen.
+ */
+public class NotFoundException extends RuntimeException {
+    /**
+     * Crea una excepción de recurso inexistente con un mensaje específico.
+     *
+     * @param message Descripción del recurso no encontrado.
+     */
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.seek.candidatosmanagementapi.exception;
+
+import java.time.Duration;
+
+/**
+ * Excepción para peticiones rechazadas por sobrecarga temporal; el cliente puede reintentar.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Crea una excepción de sobrecarga con un mensaje y el tiempo sugerido antes de reintentar.
+     *
+     * @param message    Descripción del motivo del rechazo.
+     * @param retryAfter Tiempo sugerido antes de reintentar (header Retry-After).
+     */
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return tiempo sugerido antes de reintentar.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,31 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.entity.CandidateAgeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CandidateAgeStatsRepository extends JpaRepository<CandidateAgeStats, Integer> {
+
+    /**
+     * Suma los agregados de un alta sobre un slot con un UPDATE atómico, sin leer la fila antes.
+     * Debe ejecutarse en la misma transacción que inserta los candidatos.
+     */
+    @Modifying
+    @Query(value = "UPDATE candidate_age_stats SET candidate_count = candidate_count + :count, "
+            + "age_sum = age_sum + :sum, age_sum_squares = age_sum_squares + :sumOfSquares WHERE slot = :slot",
+            nativeQuery = true)
+    int increment(@Param("slot") int slot, @Param("count") long count,
+                  @Param("sum") long sum, @Param("sumOfSquares") long sumOfSquares);
+
+    /**
+     * Agregados de edad totales: suma de todos los slots.
+     */
+    @Query("select new com.seek.candidatosmanagementapi.dto.AgeStats(sum(s.candidateCount), sum(s.ageSum), sum(s.ageSumSquares)) "
+            + "from CandidateAgeStats s")
+    AgeStats sumSlots();
+}
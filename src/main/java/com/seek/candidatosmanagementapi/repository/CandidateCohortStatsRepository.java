@@ -0,0 +1,36 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.entity.CandidateCohortStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CandidateCohortStatsRepository extends JpaRepository<CandidateCohortStats, Integer> {
+
+    /**
+     * Suma los agregados de un alta a la cohorte de su año, creando la fila si es la primera.
+     * Debe ejecutarse en la misma transacción que inserta los candidatos.
+     * Usa el alias de fila de MySQL 8.0.19+ en lugar de VALUES(col), obsoleto desde esa versión.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO candidate_cohort_stats (birth_year, candidate_count, age_sum) "
+            + "VALUES (:birthYear, :count, :ageSum) AS new "
+            + "ON DUPLICATE KEY UPDATE candidate_count = candidate_count + new.candidate_count, "
+            + "age_sum = age_sum + new.age_sum",
+            nativeQuery = true)
+    int increment(@Param("birthYear") int birthYear, @Param("count") long count, @Param("ageSum") long ageSum);
+
+    /**
+     * Todas las cohortes por año, en orden ascendente.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CandidateCohortStats> findAllByOrderByBirthYearAsc();
+}
@@ -0,0 +1,34 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.entity.CandidateIngestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CandidateIngestionRepository extends JpaRepository<CandidateIngestion, String> {
+
+    /**
+     * Registra el resultado de un alta con un INSERT directo (sin el SELECT previo de {@code save}
+     * para IDs asignados). La clave primaria impide registrar dos veces el mismo tracking ID.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO candidate_ingestions (tracking_id, status, candidate_id, error, applied_at) "
+            + "VALUES (:trackingId, :status, :candidateId, :error, :appliedAt)",
+            nativeQuery = true)
+    int record(@Param("trackingId") String trackingId, @Param("status") String status,
+               @Param("candidateId") Long candidateId, @Param("error") String error,
+               @Param("appliedAt") Instant appliedAt);
+
+    /**
+     * Tracking IDs del lote que ya tienen resultado registrado.
+     */
+    @Query("select i.trackingId from CandidateIngestion i where i.trackingId in :trackingIds")
+    List<String> findRecorded(@Param("trackingIds") Collection<String> trackingIds);
+}
@@ -0,0 +1,28 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.entity.CandidateMetricsHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CandidateMetricsHistoryRepository extends JpaRepository<CandidateMetricsHistory, Long> {
+
+    /**
+     * Fotos tomadas dentro del rango (ambos extremos incluidos), de la más antigua a la más reciente.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CandidateMetricsHistory> findByCapturedAtBetweenOrderByCapturedAtAsc(Instant from, Instant to);
+
+    /**
+     * Fotos más recientes, de la más nueva a la más vieja; el tamaño de página limita la cantidad.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CandidateMetricsHistory> findAllByOrderByCapturedAtDesc(Pageable pageable);
+}
@@ -1,10 +1,73 @@
 package com.seek.candidatosmanagementapi.repository;
 
 
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
 import com.seek.candidatosmanagementapi.entity.Candidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, Long> {
-}
\ No newline at end of file
+public interface CandidateRepository extends JpaRepository<Candidate, Long>, CandidateRepositoryCustom {
+
+    /**
+     * Recorre todos los candidatos en orden de ID como un Stream respaldado por el cursor JDBC.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * En MySQL el fetch size solo se respeta con {@code useCursorFetch=true} en la URL JDBC.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.seek.candidatosmanagementapi.dto.CandidateRow(c.id, c.firstName, c.lastName, c.age, c.birthDate) "
+            + "from Candidate c order by c.id")
+    Stream<CandidateRow> streamAllRows();
+
+    /**
+     * Cantidad, suma y suma de cuadrados de las edades en un único agregado SQL,
+     * para calcular promedio y desviación estándar sin traer filas a la aplicación.
+     */
+    @Query("select new com.seek.candidatosmanagementapi.dto.AgeStats(count(c), sum(c.age), sum(c.age * c.age)) "
+            + "from Candidate c")
+    AgeStats aggregateAgeStats();
+
+    /**
+     * ID más alto asignado; se resuelve con el extremo del índice de la clave primaria.
+     */
+    @Query("select max(c.id) from Candidate c")
+    Long findMaxId();
+
+    /**
+     * Fechas de nacimiento de los candidatos con los IDs indicados (búsquedas por clave primaria), para muestreo.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select c.birthDate from Candidate c where c.id in :ids")
+    List<LocalDate> findBirthDatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Fechas de nacimiento de los candidatos en un rango de IDs, para muestrear tablas que caben completas en la muestra.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select c.birthDate from Candidate c where c.id between :fromId and :toId")
+    List<LocalDate> findBirthDatesByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Cantidad (0 o 1) de candidatos con el mismo nombre, apellido y fecha de nacimiento normalizados.
+     * Repite las expresiones del índice único ux_candidates_identity para que se resuelva con él.
+     */
+    @Query(value = "SELECT COUNT(*) FROM candidates WHERE LOWER(TRIM(first_name)) = LOWER(TRIM(:firstName)) "
+            + "AND LOWER(TRIM(last_name)) = LOWER(TRIM(:lastName)) AND birth_date = :birthDate",
+            nativeQuery = true)
+    long countByIdentity(@Param("firstName") String firstName, @Param("lastName") String lastName,
+                         @Param("birthDate") LocalDate birthDate);
+}
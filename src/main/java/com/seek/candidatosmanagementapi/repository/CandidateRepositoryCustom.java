@@ -0,0 +1,37 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consultas dinámicas sobre candidatos que no se pueden expresar como métodos derivados.
+ */
+public interface CandidateRepositoryCustom {
+
+    /**
+     * Busca candidatos aplicando los filtros en un único predicado SQL.
+     * @param filter filtros opcionales (los campos null se ignoran)
+     * @param sort ordenamiento, con el ID como desempate
+     * @param after última fila de la página anterior (solo ID y campo de orden), o null
+     * @param limit cantidad máxima de filas, o null para traer todas
+     * @param fields campos pedidos; solo se leen sus columnas, el ID y el campo de orden (null para todos)
+     * @return filas que cumplen los filtros, en el orden pedido
+     */
+    List<CandidateRow> search(CandidateFilter filter, CandidateSort sort, CandidateRow after, Integer limit,
+                              Set<CandidateField> fields);
+
+    /**
+     * Inserta candidatos nuevos en lotes JDBC de {@code batchSize} filas dentro de la transacción actual.
+     * El contexto de persistencia se vacía después de cada lote para que la memoria no dependa de la
+     * cantidad de filas; los candidatos quedan con el ID asignado pero desasociados.
+     * @param candidates candidatos sin ID
+     * @param batchSize filas por lote JDBC
+     */
+    void insertAll(List<Candidate> candidates, int batchSize);
+}
@@ -0,0 +1,209 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación con Criteria API de {@link CandidateRepositoryCustom}.
+ * Solo agrega los predicados de los filtros presentes, así MySQL puede usar los índices
+ * de age, birth_date y last_name (V2__add_candidates_filter_indexes.sql).
+ * Con un subconjunto de campos se seleccionan solo las columnas necesarias.
+ */
+public class CandidateRepositoryImpl implements CandidateRepositoryCustom {
+
+    /** Columnas de la proyección {@link CandidateRow}, en orden */
+    private static final List<String> COLUMNS = List.of("id", "firstName", "lastName", "age", "birthDate");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CandidateRow> search(CandidateFilter filter, CandidateSort sort, CandidateRow after, Integer limit,
+                                     Set<CandidateField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Set<String> columns = columnsFor(fields, sort);
+
+        if (columns.size() == COLUMNS.size()) {
+            CriteriaQuery<CandidateRow> query = cb.createQuery(CandidateRow.class);
+            Root<Candidate> c = query.from(Candidate.class);
+            query.select(cb.construct(CandidateRow.class,
+                    c.get("id"), c.get("firstName"), c.get("lastName"), c.get("age"), c.get("birthDate")));
+            restrict(cb, query, c, filter, sort, after);
+
+            return limited(query, limit).getResultList();
+        }
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Candidate> c = query.from(Candidate.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String column : columns) {
+            selections.add(c.get(column).alias(column));
+        }
+        query.multiselect(selections);
+        restrict(cb, query, c, filter, sort, after);
+
+        List<CandidateRow> rows = new ArrayList<>();
+        for (Tuple tuple : limited(query, limit).getResultList()) {
+            rows.add(toRow(tuple, columns));
+        }
+        return rows;
+    }
+
+    @Override
+    public void insertAll(List<Candidate> candidates, int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            for (int i = 0; i < candidates.size(); i++) {
+                entityManager.persist(candidates.get(i));
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    /**
+     * Columnas a leer: las que necesitan los campos pedidos, más el ID y el campo de orden
+     * que hacen falta para el cursor de la página siguiente.
+     */
+    private Set<String> columnsFor(Set<CandidateField> fields, CandidateSort sort) {
+        if (fields == null || fields.size() == CandidateField.ALL.size()) {
+            return new LinkedHashSet<>(COLUMNS);
+        }
+
+        Set<String> needed = new HashSet<>();
+        needed.add("id");
+        needed.add(sort.getField().getProperty());
+        for (CandidateField field : fields) {
+            needed.add(field.getColumn());
+        }
+
+        Set<String> columns = new LinkedHashSet<>();
+        for (String column : COLUMNS) {
+            if (needed.contains(column)) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Agrega a la consulta los predicados de los filtros presentes, el keyset y el orden.
+     */
+    private void restrict(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Candidate> c,
+                          CandidateFilter filter, CandidateSort sort, CandidateRow after) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            if (filter.getMinAge() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(c.get("age"), filter.getMinAge()));
+            }
+            if (filter.getMaxAge() != null) {
+                predicates.add(cb.lessThanOrEqualTo(c.get("age"), filter.getMaxAge()));
+            }
+            if (filter.getBornAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(c.get("birthDate"), filter.getBornAfter()));
+            }
+            if (filter.getBornBefore() != null) {
+                predicates.add(cb.lessThanOrEqualTo(c.get("birthDate"), filter.getBornBefore()));
+            }
+            if (filter.getLastNamePrefix() != null && !filter.getLastNamePrefix().isBlank()) {
+                predicates.add(cb.like(c.get("lastName"), escapeLike(filter.getLastNamePrefix().trim()) + "%", '\\'));
+            }
+        }
+        if (after != null) {
+            predicates.add(keysetPredicate(cb, c, sort, after));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        Path<Long> id = c.get("id");
+        if (sort.getField() == CandidateSort.Field.ID) {
+            query.orderBy(sort.isAscending() ? cb.asc(id) : cb.desc(id));
+        } else {
+            Path<?> field = c.get(sort.getField().getProperty());
+            query.orderBy(sort.isAscending()
+                    ? List.of(cb.asc(field), cb.asc(id))
+                    : List.of(cb.desc(field), cb.desc(id)));
+        }
+    }
+
+    private <T> TypedQuery<T> limited(CriteriaQuery<T> query, Integer limit) {
+        TypedQuery<T> typed = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (limit != null) {
+            typed.setMaxResults(limit);
+        }
+        return typed;
+    }
+
+    /**
+     * Arma la fila solo con las columnas leídas; el resto queda en null.
+     */
+    private CandidateRow toRow(Tuple tuple, Set<String> columns) {
+        CandidateRow row = new CandidateRow();
+        row.setId(tuple.get("id", Long.class));
+        if (columns.contains("firstName")) {
+            row.setFirstName(tuple.get("firstName", String.class));
+        }
+        if (columns.contains("lastName")) {
+            row.setLastName(tuple.get("lastName", String.class));
+        }
+        if (columns.contains("age")) {
+            row.setAge(tuple.get("age", Integer.class));
+        }
+        if (columns.contains("birthDate")) {
+            row.setBirthDate(tuple.get("birthDate", LocalDate.class));
+        }
+        return row;
+    }
+
+    /**
+     * Condición para continuar después de la última fila entregada:
+     * {@code campo > v OR (campo = v AND id > lastId)} (o {@code <} si el orden es descendente).
+     */
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<Candidate> c, CandidateSort sort, CandidateRow after) {
+        Path<Long> id = c.get("id");
+        boolean asc = sort.isAscending();
+        Predicate idAfter = asc ? cb.greaterThan(id, after.getId()) : cb.lessThan(id, after.getId());
+
+        return switch (sort.getField()) {
+            case ID -> idAfter;
+            case AGE -> continueAfter(cb, c.get("age"), after.getAge(), asc, idAfter);
+            case BIRTH_DATE -> continueAfter(cb, c.<LocalDate>get("birthDate"), after.getBirthDate(), asc, idAfter);
+            case LAST_NAME -> continueAfter(cb, c.get("lastName"), after.getLastName(), asc, idAfter);
+        };
+    }
+
+    private <T extends Comparable<? super T>> Predicate continueAfter(
+            CriteriaBuilder cb, Path<T> field, T value, boolean asc, Predicate idAfter) {
+        Predicate beyond = asc ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+        return cb.or(beyond, cb.and(cb.equal(field, value), idAfter));
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,65 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Reserva la clave con un INSERT directo; si ya existe, la clave primaria lo rechaza con
+     * una violación de integridad y solo una de varias peticiones concurrentes la obtiene.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, expires_at) "
+            + "VALUES (:key, :requestHash, :createdAt, :expiresAt)",
+            nativeQuery = true)
+    int reserve(@Param("key") String key, @Param("requestHash") String requestHash,
+                @Param("createdAt") Instant createdAt, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Guarda la respuesta de la petición que reservó la clave y extiende su vencimiento
+     * del de la reserva al de la respuesta.
+     */
+    @Modifying
+    @Query("update IdempotencyKey k set k.response = :response, k.expiresAt = :expiresAt "
+            + "where k.key = :key and k.requestHash = :requestHash and k.response is null")
+    int complete(@Param("key") String key, @Param("requestHash") String requestHash,
+                 @Param("response") String response, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Extiende el vencimiento de una reserva sin respuesta mientras la petición original sigue en proceso.
+     */
+    @Modifying
+    @Query("update IdempotencyKey k set k.expiresAt = :expiresAt "
+            + "where k.key = :key and k.requestHash = :requestHash and k.response is null")
+    int renew(@Param("key") String key, @Param("requestHash") String requestHash,
+              @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Libera una reserva sin respuesta, para que la petición fallida pueda reintentarse.
+     */
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.key = :key and k.response is null")
+    int release(@Param("key") String key);
+
+    /**
+     * Elimina la clave si ya venció.
+     */
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.key = :key and k.expiresAt <= :now")
+    int deleteIfExpired(@Param("key") String key, @Param("now") Instant now);
+
+    /**
+     * Elimina todas las claves vencidas.
+     */
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,154 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estimación de promedio y desviación estándar de edad a partir de una muestra aleatoria.
+ *
+ * La muestra se toma por clave primaria: se sortean IDs entre 1 y el ID máximo y se leen
+ * sus fechas de nacimiento con búsquedas por índice, sin recorrer la tabla. Las edades se calculan
+ * a la fecha del día, igual que en el modo exacto (ver {@link CandidateBirthDates}). Los huecos de la secuencia
+ * (altas revertidas) solo reducen la cantidad de aciertos, por lo que se sortean más IDs
+ * en proporción a la densidad de la tabla. Si la tabla cabe en la muestra, se lee completa
+ * y el intervalo se reduce al valor exacto.
+ *
+ * Los intervalos usan aproximación normal con corrección por población finita:
+ * {@code promedio ± z·s/√n} y {@code s ± z·s/√(2(n-1))}.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Component
+public class ApproximateAgeMetrics {
+
+    /** Máximo de IDs sorteados por cada fila de muestra buscada, para tablas con muchos huecos */
+    private static final int MAX_OVERSAMPLING = 4;
+
+    private final CandidateRepository repository;
+    private final Clock clock;
+    private final int sampleSize;
+
+    public ApproximateAgeMetrics(CandidateRepository repository,
+                                 Clock clock,
+                                 @Value("${candidates.metrics.approximate.sample-size:2000}") int sampleSize) {
+        this.repository = repository;
+        this.clock = clock;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Estima las métricas sobre una muestra de la tabla.
+     * @param total cantidad de candidatos de la tabla (mayor que cero)
+     * @param confidence nivel de confianza de los intervalos, entre 0 y 1
+     */
+    public MetricsResponse estimate(long total, double confidence) {
+        int[] ages = agesOf(sample(total));
+        int n = ages.length;
+        if (n == 0) {
+            throw new BusinessException("No hay candidatos registrados para calcular métricas");
+        }
+
+        double sum = 0;
+        for (int age : ages) {
+            sum += age;
+        }
+        double mean = sum / n;
+
+        double squares = 0;
+        for (int age : ages) {
+            squares += (age - mean) * (age - mean);
+        }
+        double stdDeviation = n > 1 ? Math.sqrt(squares / (n - 1)) : 0.0;
+
+        double z = inverseNormal(1 - (1 - confidence) / 2);
+        double finitePopulation = total > 1 ? Math.sqrt(Math.max(0.0, (double) (total - n) / (total - 1))) : 0.0;
+        double meanMargin = z * stdDeviation / Math.sqrt(n) * finitePopulation;
+        double stdMargin = n > 1 ? z * stdDeviation / Math.sqrt(2.0 * (n - 1)) * finitePopulation : 0.0;
+
+        return MetricsResponse.builder()
+                .averageAge(mean)
+                .ageStdDeviation(stdDeviation)
+                .sampleSize(n)
+                .confidence(confidence)
+                .averageAgeLower(mean - meanMargin)
+                .averageAgeUpper(mean + meanMargin)
+                .ageStdDeviationLower(Math.max(0.0, stdDeviation - stdMargin))
+                .ageStdDeviationUpper(stdDeviation + stdMargin)
+                .build();
+    }
+
+    /**
+     * Edades cumplidas hoy para las fechas de nacimiento de la muestra.
+     */
+    private int[] agesOf(List<LocalDate> birthDates) {
+        int today = CandidateBirthDates.pack(LocalDate.now(clock));
+        int[] ages = new int[birthDates.size()];
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = CandidateBirthDates.ageOn(CandidateBirthDates.pack(birthDates.get(i)), today);
+        }
+        return ages;
+    }
+
+    /**
+     * Fechas de nacimiento de una muestra aleatoria simple de aproximadamente {@code sampleSize} filas.
+     */
+    private List<LocalDate> sample(long total) {
+        Long maxId = repository.findMaxId();
+        if (maxId == null) {
+            return List.of();
+        }
+
+        long draws = Math.min(maxId, (long) Math.ceil(sampleSize * Math.min(MAX_OVERSAMPLING, (double) maxId / total)));
+        if (draws >= maxId) {
+            return repository.findBirthDatesByIdBetween(1L, maxId);
+        }
+
+        Set<Long> ids = new HashSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (ids.size() < draws) {
+            ids.add(random.nextLong(1, maxId + 1));
+        }
+        List<LocalDate> birthDates = repository.findBirthDatesByIdIn(ids);
+        return birthDates.isEmpty() ? repository.findBirthDatesByIdBetween(1L, maxId) : birthDates;
+    }
+
+    /**
+     * Inversa de la distribución normal estándar (aproximación racional de Acklam, error relativo ~1e-9).
+     */
+    static double inverseNormal(double p) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.seek.candidatosmanagementapi.service;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tablas precalculadas de los campos derivados de un candidato para una fecha de referencia.
+ *
+ * El próximo cumpleaños y los días que faltan solo dependen del mes y día de nacimiento,
+ * así que se calculan una vez por cada uno de los 366 días del año (índice de día del año
+ * bisiesto) con la misma regla de {@code withYear} que antes se aplicaba por fila. La edad
+ * en meses se obtiene con aritmética de meses prolépticos, equivalente a
+ * {@code ChronoUnit.MONTHS.between(nacimiento, fecha)}. Todas las filas mapeadas con la
+ * misma instancia usan exactamente la misma fecha.
+ *
+ * @author Jose Osorio Catalan
+ */
+public final class BirthdayCalendar {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int REFERENCE_LEAP_YEAR = 2000;
+
+    private final LocalDate asOf;
+    private final long asOfProlepticMonth;
+    private final int asOfDayOfMonth;
+    private final LocalDate[] nextBirthday = new LocalDate[DAYS_IN_LEAP_YEAR];
+    private final long[] daysToNextBirthday = new long[DAYS_IN_LEAP_YEAR];
+
+    private BirthdayCalendar(LocalDate asOf) {
+        this.asOf = asOf;
+        this.asOfProlepticMonth = prolepticMonth(asOf);
+        this.asOfDayOfMonth = asOf.getDayOfMonth();
+
+        LocalDate day = LocalDate.of(REFERENCE_LEAP_YEAR, 1, 1);
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++, day = day.plusDays(1)) {
+            LocalDate next = day.withYear(asOf.getYear());
+            if (!next.isAfter(asOf)) {
+                next = next.plusYears(1);
+            }
+            nextBirthday[i] = next;
+            daysToNextBirthday[i] = ChronoUnit.DAYS.between(asOf, next);
+        }
+    }
+
+    /**
+     * Construye las tablas para la fecha indicada.
+     */
+    public static BirthdayCalendar of(LocalDate asOf) {
+        return new BirthdayCalendar(asOf);
+    }
+
+    /**
+     * Fecha de referencia de los cálculos.
+     */
+    public LocalDate asOf() {
+        return asOf;
+    }
+
+    /**
+     * Próximo cumpleaños estrictamente posterior a la fecha de referencia.
+     */
+    public LocalDate nextBirthday(LocalDate birthDate) {
+        return nextBirthday[leapDayOfYearIndex(birthDate)];
+    }
+
+    /**
+     * Días desde la fecha de referencia hasta el próximo cumpleaños.
+     */
+    public long daysToNextBirthday(LocalDate birthDate) {
+        return daysToNextBirthday[leapDayOfYearIndex(birthDate)];
+    }
+
+    /**
+     * Meses completos entre la fecha de nacimiento y la fecha de referencia.
+     */
+    public long ageInMonths(LocalDate birthDate) {
+        long months = asOfProlepticMonth - prolepticMonth(birthDate);
+        if (months > 0 && asOfDayOfMonth < birthDate.getDayOfMonth()) {
+            months--;
+        } else if (months < 0 && asOfDayOfMonth > birthDate.getDayOfMonth()) {
+            months++;
+        }
+        return months;
+    }
+
+    private static int leapDayOfYearIndex(LocalDate date) {
+        Month month = date.getMonth();
+        return month.firstDayOfYear(true) + date.getDayOfMonth() - 2;
+    }
+
+    private static long prolepticMonth(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
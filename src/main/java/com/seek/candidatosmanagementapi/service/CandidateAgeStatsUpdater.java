@@ -0,0 +1,50 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mantiene la tabla "candidate_age_stats" al día con cada alta.
+ *
+ * Se ejecuta antes del commit, dentro de la misma transacción que inserta los candidatos:
+ * si el UPDATE falla, el alta se revierte y los agregados nunca quedan desfasados.
+ * Cada transacción elige un slot al azar para repartir el bloqueo de fila entre altas concurrentes.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Component
+@RequiredArgsConstructor
+public class CandidateAgeStatsUpdater {
+
+    /** Cantidad de slots creados por V3__create_candidate_age_stats.sql */
+    static final int SLOTS = 16;
+
+    private final CandidateAgeStatsRepository repository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        if (event.getCandidates().isEmpty()) {
+            return;
+        }
+
+        long sum = 0;
+        long sumOfSquares = 0;
+        for (CandidateRow row : event.getCandidates()) {
+            long age = row.getAge();
+            sum += age;
+            sumOfSquares += age * age;
+        }
+
+        int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        if (repository.increment(slot, event.getCandidates().size(), sum, sumOfSquares) != 1) {
+            throw new IllegalStateException("No existe el slot " + slot + " en candidate_age_stats");
+        }
+    }
+}
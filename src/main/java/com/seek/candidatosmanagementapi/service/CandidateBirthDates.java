@@ -0,0 +1,290 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Fechas de nacimiento de todos los candidatos en un arreglo primitivo, para calcular
+ * las edades a la fecha del día sin depender de la columna "age", que se fija al crear.
+ *
+ * Cada fecha se guarda como el entero {@code aaaammdd}: la edad cumplida a una fecha es
+ * {@code (hoy - nacimiento) / 10000}, así el recorrido es un bucle sobre {@code int[]}
+ * sin crear objetos. Con un millón de candidatos ocupa unos 4 MB.
+ *
+ * Se carga al arrancar y cada alta agrega sus fechas después del commit. Las altas de otras
+ * instancias no llegan por evento: {@link #synchronize()} compara periódicamente cuántos candidatos
+ * sumó "candidate_age_stats" desde la última carga con cuántos sumó el arreglo, y recarga en segundo
+ * plano si la diferencia se repite en dos revisiones seguidas (una sola vez no alcanza: un alta local
+ * ya confirmada puede no haber llegado todavía al arreglo). Comparar lo sumado y no los totales evita
+ * recargar sin fin si el resumen tiene una diferencia propia (ver {@link CandidateAgeStatsVerifier}).
+ * Las consultas nunca recargan: usan las fechas vigentes.
+ *
+ * La cantidad por edad ({@link #ageCounts(LocalDate)}) se guarda junto a las fechas para el día consultado:
+ * la primera consulta del día, o después de una carga, recorre el arreglo, y cada alta suma sus edades
+ * a esas {@value #MAX_AGE} + 1 celdas, así las consultas siguientes del mismo día no recorren nada.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateBirthDates {
+
+    /** Edad máxima aceptada por la validación de altas; las mayores se cuentan en la última celda del histograma */
+    public static final int MAX_AGE = 150;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final CandidateRepository repository;
+    private final CandidateAgeStatsRepository ageStatsRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile Dates current = new Dates(new int[0], 0);
+    private List<CandidateRow> createdDuringReload;
+    private long syncedCount;
+    private long syncedSize;
+    private boolean outOfSync;
+
+    public CandidateBirthDates(CandidateRepository repository,
+                               CandidateAgeStatsRepository ageStatsRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.ageStatsRepository = ageStatsRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Fecha como entero {@code aaaammdd}, que conserva el orden cronológico.
+     */
+    public static int pack(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Años cumplidos entre dos fechas empaquetadas con {@link #pack(LocalDate)}.
+     */
+    public static int ageOn(int birthDate, int asOf) {
+        return (asOf - birthDate) / 10000;
+    }
+
+    /**
+     * Carga las fechas desde la tabla antes de que el servidor acepte peticiones.
+     */
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Revisa si hubo altas en otras instancias desde la última carga y, si la diferencia
+     * se confirma en la revisión siguiente, recarga las fechas.
+     */
+    @Scheduled(initialDelayString = "${candidates.metrics.birth-dates.sync-interval:PT30S}",
+            fixedDelayString = "${candidates.metrics.birth-dates.sync-interval:PT30S}")
+    public void synchronize() {
+        long count = countOf(ageStatsRepository.sumSlots());
+        boolean mismatch;
+        synchronized (lock) {
+            mismatch = count - syncedCount != current.size - syncedSize;
+            boolean confirmed = mismatch && outOfSync;
+            outOfSync = mismatch && !confirmed;
+            if (!confirmed) {
+                return;
+            }
+        }
+
+        log.info("Birth dates out of sync with the age stats summary ({} candidates in memory), reloading", current.size);
+        reload();
+    }
+
+    /**
+     * Agrega las fechas de los candidatos creados, después del commit. Corre antes que los demás
+     * listeners del evento, así {@link MetricsStream} ya ve las fechas nuevas cuando recalcula.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        synchronized (lock) {
+            if (createdDuringReload != null) {
+                createdDuringReload.addAll(event.getCandidates());
+            }
+            current = current.append(event.getCandidates());
+        }
+    }
+
+    /**
+     * Cantidad, suma y suma de cuadrados de las edades cumplidas a {@code asOf}.
+     */
+    public AgeStats ageStats(LocalDate asOf) {
+        Dates dates = current;
+        int today = pack(asOf);
+        int[] values = dates.values;
+        int size = dates.size;
+        long sum = 0;
+        long sumOfSquares = 0;
+        for (int i = 0; i < size; i++) {
+            long age = ageOn(values[i], today);
+            sum += age;
+            sumOfSquares += age * age;
+        }
+        return new AgeStats((long) size, sum, sumOfSquares);
+    }
+
+    /**
+     * Cantidad de candidatos por edad cumplida a {@code asOf}: posición = edad (0 a {@value #MAX_AGE}).
+     * Recorre las fechas solo si no hay cantidades guardadas para ese día.
+     */
+    public long[] ageCounts(LocalDate asOf) {
+        Dates dates = current;
+        int today = pack(asOf);
+        AgeCounts cached = dates.ageCounts;
+        if (cached == null || cached.day != today) {
+            long[] counts = new long[MAX_AGE + 1];
+            for (int i = 0; i < dates.size; i++) {
+                counts[bucket(ageOn(dates.values[i], today))]++;
+            }
+            cached = new AgeCounts(today, counts);
+            if (dates.ageCounts == null || dates.ageCounts.day < today) {
+                dates.ageCounts = cached;
+            }
+        }
+        return cached.counts.clone();
+    }
+
+    private static int bucket(int age) {
+        return Math.max(0, Math.min(MAX_AGE, age));
+    }
+
+    /**
+     * Lee todas las fechas en streaming, si no hay otra carga en curso. Las altas que llegan mientras
+     * se lee se guardan y se agregan las que la lectura no incluyó (las que no están entre los IDs leídos).
+     * La cantidad del resumen se lee en la misma transacción que las fechas, así ambas son de la misma vista.
+     */
+    private void reload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            synchronized (lock) {
+                createdDuringReload = new ArrayList<>();
+            }
+
+            long[] summaryCount = new long[1];
+            ScannedIds scannedIds = new ScannedIds();
+            Dates loaded = readOnlyTx.execute(status -> {
+                summaryCount[0] = countOf(ageStatsRepository.sumSlots());
+                int[] values = new int[INITIAL_CAPACITY];
+                int size = 0;
+                try (Stream<CandidateRow> rows = repository.streamAllRows()) {
+                    for (CandidateRow row : (Iterable<CandidateRow>) rows::iterator) {
+                        if (size == values.length) {
+                            values = Arrays.copyOf(values, size * 2);
+                        }
+                        values[size++] = pack(row.getBirthDate());
+                        scannedIds.add(row.getId());
+                    }
+                }
+                return new Dates(values, size);
+            });
+
+            synchronized (lock) {
+                List<CandidateRow> missed = createdDuringReload.stream()
+                        .filter(row -> !scannedIds.contains(row.getId()))
+                        .toList();
+                syncedCount = summaryCount[0];
+                syncedSize = loaded.size;
+                outOfSync = false;
+                current = loaded.append(missed);
+            }
+            log.info("Birth dates loaded for {} candidates", loaded.size);
+        } finally {
+            synchronized (lock) {
+                createdDuringReload = null;
+            }
+            reloading.set(false);
+        }
+    }
+
+    private static long countOf(AgeStats stats) {
+        return stats == null ? 0 : Objects.requireNonNullElse(stats.getCount(), 0L);
+    }
+
+    /**
+     * Arreglo y cantidad válida. Las altas escriben más allá de {@code size} antes de publicar
+     * un nuevo estado, así un lector nunca ve una posición a medio escribir.
+     */
+    private static final class Dates {
+        private final int[] values;
+        private final int size;
+        /** Cantidad por edad de estas fechas para un día; null hasta la primera consulta */
+        private volatile AgeCounts ageCounts;
+
+        private Dates(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        /**
+         * Nuevo estado con las fechas agregadas; reutiliza el arreglo mientras tenga espacio
+         * y suma las edades nuevas a una copia de las cantidades por edad, si las hay.
+         * Debe llamarse con el lock tomado.
+         */
+        private Dates append(List<CandidateRow> rows) {
+            int[] next = values;
+            int nextSize = size;
+            AgeCounts counts = ageCounts;
+            long[] nextCounts = counts == null ? null : counts.counts.clone();
+            for (CandidateRow row : rows) {
+                if (nextSize == next.length) {
+                    next = Arrays.copyOf(next, Math.max(INITIAL_CAPACITY, nextSize * 2));
+                }
+                int birthDate = pack(row.getBirthDate());
+                next[nextSize++] = birthDate;
+                if (nextCounts != null) {
+                    nextCounts[bucket(ageOn(birthDate, counts.day))]++;
+                }
+            }
+            Dates appended = new Dates(next, nextSize);
+            if (nextCounts != null) {
+                appended.ageCounts = new AgeCounts(counts.day, nextCounts);
+            }
+            return appended;
+        }
+    }
+
+    /**
+     * Cantidad de candidatos por edad cumplida a una fecha empaquetada; no se modifica una vez publicada.
+     */
+    private static final class AgeCounts {
+        private final int day;
+        private final long[] counts;
+
+        private AgeCounts(int day, long[] counts) {
+            this.day = day;
+            this.counts = counts;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateCohortStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantiene la tabla "candidate_cohort_stats" al día con cada alta.
+ *
+ * Igual que {@link CandidateAgeStatsUpdater}, corre antes del commit dentro de la transacción
+ * del alta. Agrupa los candidatos por año y hace un upsert por año, en orden ascendente
+ * para que dos altas concurrentes tomen los bloqueos de fila en el mismo orden.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Component
+@RequiredArgsConstructor
+public class CandidateCohortStatsUpdater {
+
+    private final CandidateCohortStatsRepository repository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        Map<Integer, long[]> byYear = new TreeMap<>();
+        for (CandidateRow row : event.getCandidates()) {
+            long[] totals = byYear.computeIfAbsent(row.getBirthDate().getYear(), year -> new long[2]);
+            totals[0]++;
+            totals[1] += row.getAge();
+        }
+
+        byYear.forEach((year, totals) -> repository.increment(year, totals[0], totals[1]));
+    }
+}
@@ -0,0 +1,239 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Detección de candidatos duplicados (mismo nombre, apellido y fecha de nacimiento normalizados).
+ *
+ * Un filtro de Bloom en memoria con las identidades de la tabla descarta sin consultar la base el caso
+ * común, un candidato nuevo; solo cuando el filtro indica un probable duplicado se confirma con una
+ * consulta sobre el índice único ux_candidates_identity. El filtro no tiene falsos negativos para lo
+ * que conoce: se construye al arrancar recorriendo la tabla y suma cada alta después del commit.
+ * Las altas hechas en otras instancias no llegan al filtro; para esas, y para dos altas concurrentes
+ * del mismo candidato, el índice único rechaza el INSERT.
+ *
+ * El filtro se dimensiona para el doble de candidatos existentes al arrancar (como mínimo
+ * {@code candidates.duplicates.bloom.expected-insertions}) con una tasa de falsos positivos
+ * {@code candidates.duplicates.bloom.false-positive-rate}; si se supera esa cantidad la tasa crece
+ * y hay más consultas de confirmación, pero nunca se acepta un duplicado.
+ *
+ * Publica el contador {@code candidates.duplicates.check} con {@code result} = negative, false_positive o duplicate.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateDuplicateDetector {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final CandidateRepository repository;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter negatives;
+    private final Counter falsePositives;
+    private final Counter duplicates;
+
+    private final Object lock = new Object();
+    private volatile BloomFilter current;
+    private BloomFilter rebuilding;
+
+    public CandidateDuplicateDetector(CandidateRepository repository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${candidates.duplicates.bloom.enabled:true}") boolean enabled,
+                                      @Value("${candidates.duplicates.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                      @Value("${candidates.duplicates.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.negatives = meterRegistry.counter("candidates.duplicates.check", "result", "negative");
+        this.falsePositives = meterRegistry.counter("candidates.duplicates.check", "result", "false_positive");
+        this.duplicates = meterRegistry.counter("candidates.duplicates.check", "result", "duplicate");
+    }
+
+    /**
+     * Identidad normalizada de un candidato: nombre y apellido sin espacios al inicio o al final,
+     * en minúsculas y sin acentos, y la fecha de nacimiento.
+     */
+    public static String identity(String firstName, String lastName, LocalDate birthDate) {
+        return normalize(firstName) + '\u0000' + normalize(lastName) + '\u0000' + birthDate;
+    }
+
+    /**
+     * Construye el filtro con las identidades de la tabla antes de que el servidor acepte peticiones.
+     */
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long existing = readOnlyTx.execute(status -> repository.count());
+        BloomFilter filter = BloomFilter.create(Math.max(expectedInsertions, existing * 2), falsePositiveRate);
+        synchronized (lock) {
+            rebuilding = filter;
+        }
+
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<CandidateRow> rows = repository.streamAllRows()) {
+                    rows.forEach(row -> filter.put(identity(row.getFirstName(), row.getLastName(), row.getBirthDate())));
+                }
+            });
+            synchronized (lock) {
+                current = filter;
+            }
+        } finally {
+            synchronized (lock) {
+                rebuilding = null;
+            }
+        }
+        log.info("Duplicate filter built with {} candidates ({} bits, {} hash functions)",
+                filter.count(), filter.bitSize(), filter.hashFunctions);
+    }
+
+    /**
+     * Suma los candidatos creados al filtro, después del commit.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        synchronized (lock) {
+            for (CandidateRow row : event.getCandidates()) {
+                String identity = identity(row.getFirstName(), row.getLastName(), row.getBirthDate());
+                if (current != null) {
+                    current.put(identity);
+                }
+                if (rebuilding != null) {
+                    rebuilding.put(identity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica si ya existe un candidato con la misma identidad.
+     * Solo consulta la base si el filtro lo marca como probable duplicado (o si el filtro está desactivado).
+     */
+    public boolean isDuplicate(String firstName, String lastName, LocalDate birthDate) {
+        BloomFilter filter = current;
+        if (filter != null && !filter.mightContain(identity(firstName, lastName, birthDate))) {
+            negatives.increment();
+            return false;
+        }
+
+        boolean duplicate = repository.countByIdentity(firstName, lastName, birthDate) > 0;
+        if (duplicate) {
+            duplicates.increment();
+        } else if (filter != null) {
+            falsePositives.increment();
+        }
+        return duplicate;
+    }
+
+    private static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Filtro de Bloom con doble hashing sobre un hash de 64 bits; los bits se marcan sin bloqueo.
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashFunctions;
+        private final AtomicLong count = new AtomicLong();
+
+        private BloomFilter(long bitSize, int hashFunctions) {
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashFunctions = hashFunctions;
+        }
+
+        /**
+         * Tamaño óptimo para {@code expected} elementos: m = -n·ln(p) / ln(2)², k = m/n·ln(2).
+         */
+        static BloomFilter create(long expected, double falsePositiveRate) {
+            long n = Math.max(1, expected);
+            long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+            return new BloomFilter(Math.min(m, 64L * Integer.MAX_VALUE), k);
+        }
+
+        void put(String value) {
+            long h1 = hash(value);
+            long h2 = Long.rotateLeft(h1, 32) | 1;
+            for (int i = 1; i <= hashFunctions; i++) {
+                long bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                bits.getAndAccumulate(word, mask, (previous, m) -> previous | m);
+            }
+            count.incrementAndGet();
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value);
+            long h2 = Long.rotateLeft(h1, 32) | 1;
+            for (int i = 1; i <= hashFunctions; i++) {
+                long bit = index(h1 + i * h2);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        private long index(long combined) {
+            return (combined & Long.MAX_VALUE) % bitSize;
+        }
+
+        /**
+         * FNV-1a de 64 bits sobre UTF-8 seguido del mezclador de SplitMix64, para repartir bien los bits altos y bajos.
+         */
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xff;
+                h *= 0x100000001b3L;
+            }
+            h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+            h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+            return h ^ (h >>> 31);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Agrupación de altas individuales concurrentes en micro-lotes (group commit).
+ *
+ * Cada alta validada se encola y su hilo espera el resultado. Un único hilo escritor toma la primera
+ * alta pendiente, espera hasta {@code candidates.create.group-commit.max-wait} o hasta juntar
+ * {@code candidates.create.group-commit.max-batch-size} altas, y las inserta en una sola transacción
+ * con {@link CandidateBatchWriter}: un commit y un viaje a la base por lote en lugar de uno por alta.
+ * Si el lote falla, cada alta se reintenta sola para que el error llegue solo a la que lo causó.
+ *
+ * Cada petición espera a lo sumo {@code candidates.create.group-commit.timeout}: si su alta sigue en la
+ * cola se retira y se rechaza; si ya se estaba insertando, se informa que no se pudo confirmar. En ambos
+ * casos es sobrecarga (503 con Retry-After), no un conflicto. Un error grave en el hilo escritor (por
+ * ejemplo, falta de memoria) rechaza todo lo pendiente y desactiva el componente, en lugar de dejar
+ * peticiones esperando un lote que nunca llegará; desde entonces {@link #isEnabled()} es falso y las
+ * altas individuales vuelven a insertarse cada una en su transacción.
+ *
+ * Se activa con {@code candidates.create.group-commit.enabled}. Publica los histogramas
+ * {@code candidates.create.group_commit.batch_size} y {@code candidates.create.group_commit.wait}.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateGroupCommitter {
+
+    /** Cada cuánto el hilo escritor revisa si debe detenerse cuando no hay altas */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /** Espera sugerida al cliente cuando su alta no se confirmó a tiempo */
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final CandidateBatchWriter batchWriter;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long timeoutNanos;
+    private final DistributionSummary batchSizes;
+    private final Timer waitTimes;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    /** Las altas encolan con el de lectura; detener o abortar toma el de escritura, así nada se encola después */
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public CandidateGroupCommitter(CandidateBatchWriter batchWriter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${candidates.create.group-commit.enabled:false}") boolean enabled,
+                                   @Value("${candidates.create.group-commit.max-batch-size:256}") int maxBatchSize,
+                                   @Value("${candidates.create.group-commit.max-wait:PT0.002S}") Duration maxWait,
+                                   @Value("${candidates.create.group-commit.timeout:PT30S}") Duration timeout) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.batchSizes = DistributionSummary.builder("candidates.create.group_commit.batch_size")
+                .description("Altas insertadas por transacción en modo group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimes = Timer.builder("candidates.create.group_commit.wait")
+                .description("Tiempo que cada alta espera en la cola antes de insertarse")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia el hilo escritor si el modo está activo.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "candidate-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Group commit enabled (max batch size {}, max wait {} µs)", maxBatchSize, maxWaitNanos / 1000);
+    }
+
+    /**
+     * Detiene el hilo escritor e inserta las altas que quedaron en la cola.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        writer.join();
+
+        List<Pending> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    /**
+     * Indica si las altas individuales deben pasar por este componente: el modo está activo
+     * y el hilo escritor sigue corriendo.
+     */
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * Encola el candidato y espera a que se confirme el lote que lo incluye.
+     * @param candidate candidato ya validado, sin ID
+     * @return fila insertada con su ID
+     * @throws ServiceUnavailableException si el alta no se confirmó dentro del timeout
+     */
+    public CandidateRow insert(Candidate candidate) {
+        Pending pending = new Pending(candidate);
+        lifecycle.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("El modo group commit no está activo");
+            }
+            queue.add(pending);
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+
+        try {
+            return pending.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Error en el hilo de group commit", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw abandon(pending);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw abandon(pending);
+        }
+    }
+
+    /**
+     * Retira de la cola un alta que no se confirmó a tiempo. Si ya se estaba insertando no puede
+     * retirarse y el lote todavía puede confirmarla.
+     */
+    private ServiceUnavailableException abandon(Pending pending) {
+        if (queue.remove(pending)) {
+            log.warn("Group commit create timed out while queued ({} pending)", queue.size());
+            return new ServiceUnavailableException("El alta no se pudo procesar a tiempo. Reintente más tarde", RETRY_AFTER);
+        }
+        log.warn("Group commit create timed out while its batch was being inserted");
+        return new ServiceUnavailableException(
+                "No se pudo confirmar el alta a tiempo. Verifique si el candidato fue creado antes de reintentar", RETRY_AFTER);
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = first.enqueuedAt + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException ex) {
+                log.error("Unexpected error in group commit writer", ex);
+                batch.forEach(pending -> pending.result.completeExceptionally(ex));
+            } catch (Throwable ex) {
+                log.error("Group commit writer stopped, rejecting pending creates", ex);
+                abort(ex);
+                batch.forEach(pending -> pending.result.completeExceptionally(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Desactiva el componente y rechaza las altas que quedaron en la cola. Se llama antes de rechazar
+     * el lote en curso, así cuando sus peticiones reciben el error las altas siguientes ya no pasan por aquí.
+     */
+    private void abort(Throwable cause) {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result.completeExceptionally(cause));
+    }
+
+    /**
+     * Inserta el lote en una transacción; si falla, reintenta cada alta por separado.
+     */
+    private void flush(List<Pending> batch) {
+        long now = System.nanoTime();
+        batchSizes.record(batch.size());
+        List<Candidate> candidates = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            waitTimes.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            candidates.add(pending.candidate);
+        }
+
+        try {
+            List<CandidateRow> rows = batchWriter.insertAll(candidates);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(rows.get(i));
+            }
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(ex);
+                return;
+            }
+            log.warn("Group commit batch of {} failed, retrying one by one: {}", batch.size(), ex.getMessage());
+            for (Pending pending : batch) {
+                pending.candidate.setId(null);
+                try {
+                    pending.result.complete(batchWriter.insertAll(List.of(pending.candidate)).get(0));
+                } catch (RuntimeException single) {
+                    pending.result.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    /**
+     * Alta en espera: el candidato, cuándo se encoló y el resultado que espera el hilo de la petición.
+     */
+    private static final class Pending {
+        private final Candidate candidate;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<CandidateRow> result = new CompletableFuture<>();
+
+        private Pending(Candidate candidate) {
+            this.candidate = candidate;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Journal local de altas pendientes: archivo mapeado en memoria, de solo agregado y con checksum.
+ *
+ * El archivo empieza con una cabecera de {@value #HEADER_SIZE} bytes (marca, versión y posición hasta
+ * donde ya se aplicó a la base) seguida de registros {@code [largo][crc32][datos]}. Cada alta escribe
+ * primero los datos y el checksum, luego el largo, y fuerza esas páginas a disco antes de devolver el
+ * tracking ID, así un 202 nunca responde por un alta que se pierda al caer el proceso.
+ *
+ * Al arrancar se recorren los registros desde la posición aplicada; el primero con largo inválido
+ * o checksum distinto marca el final (escritura cortada por la caída) y el resto del archivo se limpia.
+ * Un registro con checksum válido cuyos datos no se pueden leer se entrega igual, marcado como ilegible,
+ * para que {@link CandidateJournalDrainer} lo registre como fallido y no bloquee a los siguientes.
+ *
+ * Después de cada lote aplicado por {@link CandidateJournalDrainer} se recupera el espacio: si no queda
+ * nada pendiente el archivo vuelve a empezar desde la cabecera, y si lo pendiente cabe en el espacio ya
+ * aplicado se copia al inicio. La copia no pisa registros pendientes y la cabecera apunta a ella recién
+ * cuando está en disco, así una caída en cualquier punto deja el journal válido (lo que sobre se limpia
+ * al arrancar). Solo si la base no responde por mucho tiempo el archivo se llena y las altas nuevas se
+ * rechazan.
+ *
+ * Se activa con {@code candidates.ingest.journal.enabled}. Cada instancia tiene su propio archivo.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateJournal {
+
+    /** "CJNL" */
+    static final int MAGIC = 0x434A4E4C;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    /** Largo y checksum que preceden a los datos de cada registro */
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int DRAINED_OFFSET_POSITION = 8;
+
+    private final boolean enabled;
+    private final Path path;
+    private final long capacity;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writeOffset;
+    private int drainedOffset;
+
+    public CandidateJournal(@Value("${candidates.ingest.journal.enabled:false}") boolean enabled,
+                            @Value("${candidates.ingest.journal.path:./data/candidates.journal}") Path path,
+                            @Value("${candidates.ingest.journal.capacity:64MB}") DataSize capacity) {
+        this.enabled = enabled;
+        this.path = path;
+        this.capacity = capacity.toBytes();
+    }
+
+    /**
+     * Abre o crea el archivo y recupera las altas que quedaron sin aplicar.
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (capacity <= HEADER_SIZE || capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Capacidad de journal inválida: " + capacity + " bytes");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(capacity, channel.size());
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        int magic = buffer.getInt(0);
+        if (magic == 0) {
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putLong(DRAINED_OFFSET_POSITION, HEADER_SIZE);
+            buffer.putInt(0, MAGIC);
+            buffer.force(0, HEADER_SIZE);
+        } else if (magic != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("El archivo " + path + " no es un journal de candidatos compatible");
+        }
+
+        recover();
+    }
+
+    /**
+     * Fuerza a disco lo escrito y cierra el archivo.
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        buffer.force();
+        channel.close();
+        channel = null;
+    }
+
+    /**
+     * Indica si la ingesta asíncrona está activa.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Agrega el alta al journal y la fuerza a disco.
+     * @param candidate candidato ya validado, sin ID
+     * @return tracking ID con el que el cliente consulta el resultado
+     * @throws BusinessException si el journal está lleno
+     */
+    public synchronized String append(Candidate candidate) {
+        if (channel == null) {
+            throw new IllegalStateException("La ingesta asíncrona no está activa");
+        }
+
+        String trackingId = UUID.randomUUID().toString();
+        byte[] payload = encode(trackingId, candidate);
+        int length = RECORD_HEADER_SIZE + payload.length;
+        if (writeOffset + (long) length > buffer.capacity()) {
+            throw new BusinessException("La cola de ingesta está llena. Reintente más tarde");
+        }
+
+        buffer.put(writeOffset + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(writeOffset + 4, checksum(payload));
+        buffer.putInt(writeOffset, payload.length);
+        buffer.force(writeOffset, length);
+
+        writeOffset += length;
+        pending.add(trackingId);
+        return trackingId;
+    }
+
+    /**
+     * Lee, sin consumirlas, las primeras altas aún no aplicadas.
+     * @param max cantidad máxima de altas a leer
+     */
+    public synchronized List<Entry> read(int max) {
+        List<Entry> entries = new ArrayList<>();
+        int offset = drainedOffset;
+        while (entries.size() < max && offset < writeOffset) {
+            Entry entry = readAt(offset);
+            entries.add(entry);
+            offset = entry.endOffset;
+        }
+        return entries;
+    }
+
+    /**
+     * Marca las altas como aplicadas y recupera el espacio que ocupaban; debe llamarse después del
+     * commit que las insertó, desde el mismo hilo que llama a {@link #read(int)}.
+     * @param entries altas leídas con {@link #read(int)}, en el mismo orden
+     */
+    public synchronized void markDrained(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        drainedOffset = entries.get(entries.size() - 1).endOffset;
+        writeDrainedOffset(drainedOffset);
+        entries.forEach(entry -> pending.remove(entry.trackingId));
+
+        if (drainedOffset == writeOffset) {
+            clear(HEADER_SIZE, writeOffset);
+            buffer.force(HEADER_SIZE, writeOffset - HEADER_SIZE);
+            writeOffset = HEADER_SIZE;
+            drainedOffset = HEADER_SIZE;
+            writeDrainedOffset(HEADER_SIZE);
+        } else {
+            compact();
+        }
+    }
+
+    /**
+     * Indica si el alta sigue en el journal esperando aplicarse en esta instancia.
+     */
+    public boolean isPending(String trackingId) {
+        return pending.contains(trackingId);
+    }
+
+    /**
+     * Cantidad de altas pendientes de aplicar.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Recorre los registros desde la posición aplicada hasta el primero inválido y descarta el resto:
+     * un registro cortado por la caída o los originales de una compactación interrumpida.
+     */
+    private void recover() {
+        long storedOffset = buffer.getLong(DRAINED_OFFSET_POSITION);
+        if (storedOffset < HEADER_SIZE || storedOffset > buffer.capacity()) {
+            throw new IllegalStateException("Cabecera del journal " + path + " corrupta");
+        }
+
+        drainedOffset = (int) storedOffset;
+        int offset = drainedOffset;
+        while (true) {
+            Entry entry = tryReadAt(offset);
+            if (entry == null) {
+                break;
+            }
+            pending.add(entry.trackingId);
+            offset = entry.endOffset;
+        }
+        writeOffset = offset;
+
+        int usedEnd = usedEnd(writeOffset);
+        if (usedEnd > writeOffset) {
+            log.warn("Discarding {} bytes after the last valid record of ingestion journal {}", usedEnd - writeOffset, path);
+            clear(writeOffset, usedEnd);
+            buffer.force(writeOffset, usedEnd - writeOffset);
+        }
+        log.info("Ingestion journal {} opened with {} pending candidates", path, pending.size());
+    }
+
+    /**
+     * Copia los registros pendientes al inicio del archivo si caben antes de la posición aplicada.
+     * Orden: copia y limpieza de lo aplicado que queda detrás, a disco; cabecera, a disco; limpieza
+     * de los originales. Hasta que la cabecera cambia, una caída recupera desde los originales;
+     * después, desde la copia, que termina en bytes ya limpios.
+     */
+    private void compact() {
+        int live = writeOffset - drainedOffset;
+        if (live >= drainedOffset - HEADER_SIZE) {
+            return;
+        }
+
+        buffer.put(HEADER_SIZE, buffer, drainedOffset, live);
+        clear(HEADER_SIZE + live, drainedOffset);
+        buffer.force(HEADER_SIZE, drainedOffset - HEADER_SIZE);
+        writeDrainedOffset(HEADER_SIZE);
+
+        clear(drainedOffset, writeOffset);
+        buffer.force(drainedOffset, live);
+        writeOffset = HEADER_SIZE + live;
+        drainedOffset = HEADER_SIZE;
+    }
+
+    private void writeDrainedOffset(int offset) {
+        buffer.putLong(DRAINED_OFFSET_POSITION, offset);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private Entry readAt(int offset) {
+        Entry entry = tryReadAt(offset);
+        if (entry == null) {
+            throw new IllegalStateException("Registro inválido en el journal " + path + " en la posición " + offset);
+        }
+        return entry;
+    }
+
+    /**
+     * Lee el registro en la posición dada, o null si no hay uno completo con checksum válido.
+     */
+    private Entry tryReadAt(int offset) {
+        if (offset + RECORD_HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + RECORD_HEADER_SIZE + (long) length > buffer.capacity()) {
+            return null;
+        }
+
+        byte[] payload = new byte[length];
+        buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        if (checksum(payload) != buffer.getInt(offset + 4)) {
+            return null;
+        }
+        return decode(payload, offset + RECORD_HEADER_SIZE + length);
+    }
+
+    /**
+     * Posición siguiente al último byte distinto de cero desde {@code from}, o {@code from} si no hay ninguno.
+     */
+    private int usedEnd(int from) {
+        for (int offset = buffer.capacity(); offset > from; offset--) {
+            if (buffer.get(offset - 1) != 0) {
+                return offset;
+            }
+        }
+        return from;
+    }
+
+    private void clear(int from, int to) {
+        byte[] zeros = new byte[Math.min(to - from, 64 * 1024)];
+        for (int offset = from; offset < to; offset += zeros.length) {
+            buffer.put(offset, zeros, 0, Math.min(zeros.length, to - offset));
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(String trackingId, Candidate candidate) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            UUID uuid = UUID.fromString(trackingId);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+            out.writeUTF(candidate.getFirstName());
+            out.writeUTF(candidate.getLastName());
+            out.writeInt(candidate.getAge());
+            out.writeLong(candidate.getBirthDate().toEpochDay());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Lee los datos del registro; si no se pueden leer devuelve un alta ilegible con el tracking ID
+     * del registro, o uno derivado del checksum si ni siquiera ese se puede leer.
+     */
+    private static Entry decode(byte[] payload, int endOffset) {
+        String trackingId = new UUID(0L, checksum(payload) & 0xFFFFFFFFL).toString();
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            trackingId = new UUID(in.readLong(), in.readLong()).toString();
+            return new Entry(trackingId, in.readUTF(), in.readUTF(), in.readInt(),
+                    LocalDate.ofEpochDay(in.readLong()), endOffset);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Unreadable record {} in ingestion journal: {}", trackingId, ex.getMessage());
+            return new Entry(trackingId, null, null, 0, null, endOffset);
+        }
+    }
+
+    /**
+     * Alta leída del journal.
+     */
+    public static final class Entry {
+        private final String trackingId;
+        private final String firstName;
+        private final String lastName;
+        private final int age;
+        private final LocalDate birthDate;
+        private final int endOffset;
+
+        private Entry(String trackingId, String firstName, String lastName, int age, LocalDate birthDate, int endOffset) {
+            this.trackingId = trackingId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = age;
+            this.birthDate = birthDate;
+            this.endOffset = endOffset;
+        }
+
+        public String getTrackingId() {
+            return trackingId;
+        }
+
+        /**
+         * Candidato nuevo (sin ID) con los datos del alta; cada llamada devuelve una instancia distinta.
+         * @throws IllegalStateException si los datos del registro no se pudieron leer
+         */
+        public Candidate toCandidate() {
+            if (birthDate == null) {
+                throw new IllegalStateException("El alta " + trackingId + " del journal no se puede leer");
+            }
+            return Candidate.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .age(age)
+                    .birthDate(birthDate)
+                    .build();
+        }
+    }
+}
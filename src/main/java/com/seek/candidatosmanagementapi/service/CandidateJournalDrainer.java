@@ -0,0 +1,171 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.repository.CandidateIngestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Aplica a la base de datos, en lotes, las altas guardadas en {@link CandidateJournal}.
+ *
+ * Cada lote se aplica en una sola transacción que inserta los candidatos con {@link CandidateBatchWriter}
+ * y registra el tracking ID de cada uno en "candidate_ingestions". Los tracking ID ya registrados se
+ * saltan, así un lote que se confirmó pero no alcanzó a marcarse en el journal (caída entre el commit
+ * y la marca) no se inserta dos veces al reintentarse.
+ *
+ * Si el lote falla por integridad de datos, cada alta se reintenta sola y la que vuelve a fallar queda
+ * registrada como FAILED. Cualquier otro error (base caída o lenta) deja el lote en el journal para
+ * el siguiente ciclo; si el mismo lote falla {@code candidates.ingest.journal.max-attempts} veces seguidas,
+ * se reintenta alta por alta y la que falla sola por cualquier motivo (un registro ilegible, otra
+ * restricción de la base) queda registrada como FAILED, así un alta defectuosa no detiene a las demás.
+ * Si la base sigue caída tampoco se puede registrar el fallo y el lote queda pendiente.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateJournalDrainer {
+
+    private final CandidateJournal journal;
+    private final CandidateBatchWriter batchWriter;
+    private final CandidateIngestionRepository ingestionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    /** Tracking ID de la primera alta del lote que viene fallando y cuántas veces seguidas falló */
+    private String failingHead;
+    private int failedAttempts;
+
+    public CandidateJournalDrainer(CandidateJournal journal,
+                                   CandidateBatchWriter batchWriter,
+                                   CandidateIngestionRepository ingestionRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   Clock clock,
+                                   @Value("${candidates.ingest.journal.drain-batch-size:500}") int batchSize,
+                                   @Value("${candidates.ingest.journal.max-attempts:10}") int maxAttempts) {
+        this.journal = journal;
+        this.batchWriter = batchWriter;
+        this.ingestionRepository = ingestionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Aplica lotes hasta vaciar el journal o hasta que la base falle.
+     */
+    @Scheduled(fixedDelayString = "${candidates.ingest.journal.drain-interval:PT0.2S}")
+    public void drain() {
+        if (!journal.isEnabled()) {
+            return;
+        }
+
+        try {
+            List<CandidateJournal.Entry> entries;
+            while (!(entries = journal.read(batchSize)).isEmpty()) {
+                apply(entries);
+                journal.markDrained(entries);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Ingestion journal drain paused, {} candidates pending: {}", journal.pendingCount(), ex.getMessage());
+        }
+    }
+
+    private void apply(List<CandidateJournal.Entry> entries) {
+        String head = entries.get(0).getTrackingId();
+        if (!head.equals(failingHead)) {
+            failingHead = head;
+            failedAttempts = 0;
+        }
+
+        if (failedAttempts >= maxAttempts) {
+            log.warn("Journal batch headed by {} failed {} times, applying one by one", head, failedAttempts);
+            applyOneByOne(entries, true);
+        } else {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(entries));
+                log.info("Applied {} journaled candidates", entries.size());
+            } catch (DataIntegrityViolationException ex) {
+                log.warn("Journal batch of {} failed, applying one by one: {}", entries.size(), ex.getMessage());
+                applyOneByOne(entries, false);
+            } catch (RuntimeException ex) {
+                failedAttempts++;
+                throw ex;
+            }
+        }
+        failingHead = null;
+    }
+
+    /**
+     * Aplica cada alta en su propia transacción y registra como FAILED las que violan la integridad,
+     * o las que fallan por cualquier motivo si {@code anyError}. Los demás errores se propagan.
+     */
+    private void applyOneByOne(List<CandidateJournal.Entry> entries, boolean anyError) {
+        for (CandidateJournal.Entry entry : entries) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(entry)));
+            } catch (DataIntegrityViolationException single) {
+                recordFailure(entry, single, "No se pudo crear el candidato. Posible duplicación de datos.");
+            } catch (RuntimeException single) {
+                if (!anyError) {
+                    throw single;
+                }
+                recordFailure(entry, single, "No se pudo crear el candidato después de " + maxAttempts + " intentos");
+            }
+        }
+    }
+
+    /**
+     * Inserta las altas no registradas todavía y registra su resultado, en la transacción en curso.
+     */
+    private void insert(List<CandidateJournal.Entry> entries) {
+        List<String> trackingIds = entries.stream().map(CandidateJournal.Entry::getTrackingId).toList();
+        Set<String> recorded = new HashSet<>(ingestionRepository.findRecorded(trackingIds));
+
+        List<CandidateJournal.Entry> fresh = new ArrayList<>(entries.size());
+        List<Candidate> candidates = new ArrayList<>(entries.size());
+        for (CandidateJournal.Entry entry : entries) {
+            if (!recorded.contains(entry.getTrackingId())) {
+                fresh.add(entry);
+                candidates.add(entry.toCandidate());
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        List<CandidateRow> rows = batchWriter.insertAll(candidates);
+        Instant now = Instant.now(clock);
+        for (int i = 0; i < fresh.size(); i++) {
+            ingestionRepository.record(fresh.get(i).getTrackingId(), IngestionStatusResponse.Status.APPLIED.name(),
+                    rows.get(i).getId(), null, now);
+        }
+    }
+
+    private void recordFailure(CandidateJournal.Entry entry, RuntimeException ex, String error) {
+        log.warn("Journaled candidate {} could not be applied: {}", entry.getTrackingId(), ex.getMessage());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (ingestionRepository.findRecorded(List.of(entry.getTrackingId())).isEmpty()) {
+                ingestionRepository.record(entry.getTrackingId(), IngestionStatusResponse.Status.FAILED.name(),
+                        null, error, Instant.now(clock));
+            }
+        });
+    }
+}
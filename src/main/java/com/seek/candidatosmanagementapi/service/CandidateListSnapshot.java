@@ -0,0 +1,374 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot pre-serializado del listado completo de candidatos (sin filtros, orden por ID).
+ *
+ * Guarda el JSON ya generado en bloques de hasta {@value #CHUNK_SIZE} bytes, así servir el listado
+ * es copiar bytes a la respuesta sin pasar por Jackson. Cada bloque recuerda los IDs de sus elementos
+ * para mantener el mismo orden por ID que el listado paginado: un alta con ID mayor al último se
+ * agrega al último bloque, y una que se confirma después de otra con ID mayor (transacciones
+ * concurrentes) se inserta en su posición dentro del bloque que le corresponde. El snapshot se
+ * reconstruye completo al cambiar el día porque los campos derivados (edad en meses, próximo
+ * cumpleaños) dependen de la fecha.
+ *
+ * La reconstrucción es single-flight: una sola petición recorre la tabla y las demás esperan ese
+ * resultado. Las altas que llegan durante el recorrido se guardan y se insertan por ID las que
+ * la lectura no alcanzó a ver, así el snapshot reconstruido se publica siempre.
+ *
+ * Se activa con {@code candidates.list.snapshot.enabled}. Igual que {@link CandidateTableVersion},
+ * solo ve las altas hechas en esta instancia.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateListSnapshot {
+
+    /**
+     * Tamaño objetivo de cada bloque; acota la copia que hace un alta. Una inserción fuera de orden
+     * puede dejar un bloque algo más grande.
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] CLOSE = {']'};
+
+    private final CandidateRepository repository;
+    private final CandidateResponseMapper mapper;
+    private final ObjectWriter writer;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+
+    private final Object lock = new Object();
+    private volatile Snapshot current;
+    private CompletableFuture<Snapshot> rebuilding;
+    private List<CandidateRow> createdDuringRebuild;
+
+    public CandidateListSnapshot(CandidateRepository repository,
+                                 CandidateResponseMapper mapper,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${candidates.list.snapshot.enabled:false}") boolean enabled) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.writer = objectMapper.writer();
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Indica si el snapshot puede responder esta consulta: modo activo, sin filtros,
+     * orden por defecto y todos los campos.
+     */
+    public boolean canServe(CandidateFilter filter, String sort, String fields) {
+        if (!enabled) {
+            return false;
+        }
+
+        boolean unfiltered = filter == null || (filter.getMinAge() == null && filter.getMaxAge() == null
+                && filter.getBornAfter() == null && filter.getBornBefore() == null
+                && (filter.getLastNamePrefix() == null || filter.getLastNamePrefix().isBlank()));
+
+        return unfiltered && CandidateSort.parse(sort).equals(CandidateSort.DEFAULT)
+                && CandidateField.parse(fields).size() == CandidateField.ALL.size();
+    }
+
+    /**
+     * Escribe el arreglo JSON del listado completo, reconstruyendo el snapshot si es de otro día.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Snapshot snapshot = current;
+        if (!isCurrent(snapshot, mapper.today().asOf().toEpochDay())) {
+            snapshot = rebuild();
+        }
+
+        // cada elemento lleva su coma delante; la del primero se omite al escribir
+        out.write(OPEN);
+        for (int i = 0; i < snapshot.chunks.size(); i++) {
+            byte[] bytes = snapshot.chunks.get(i).bytes;
+            int skip = i == 0 ? 1 : 0;
+            out.write(bytes, skip, bytes.length - skip);
+        }
+        out.write(CLOSE);
+    }
+
+    /**
+     * Inserta los candidatos creados en el snapshot vigente según su ID, y los guarda para la
+     * reconstrucción si hay una en curso.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (createdDuringRebuild != null) {
+                createdDuringRebuild.addAll(event.getCandidates());
+            }
+
+            BirthdayCalendar calendar = mapper.today();
+            Snapshot snapshot = current;
+            if (!isCurrent(snapshot, calendar.asOf().toEpochDay())) {
+                return;
+            }
+
+            Snapshot updated = snapshot;
+            for (CandidateRow row : event.getCandidates()) {
+                updated = updated.insert(row.getId(), serialize(row, calendar));
+            }
+            current = updated;
+        }
+    }
+
+    /**
+     * Reconstruye el snapshot, o espera la reconstrucción que ya está en curso.
+     */
+    private Snapshot rebuild() {
+        CompletableFuture<Snapshot> future;
+        boolean owner = false;
+        synchronized (lock) {
+            Snapshot snapshot = current;
+            if (isCurrent(snapshot, mapper.today().asOf().toEpochDay())) {
+                return snapshot;
+            }
+            if (rebuilding == null) {
+                rebuilding = new CompletableFuture<>();
+                createdDuringRebuild = new ArrayList<>();
+                owner = true;
+            }
+            future = rebuilding;
+        }
+        if (!owner) {
+            return await(future);
+        }
+
+        try {
+            Snapshot rebuilt = scan();
+            future.complete(rebuilt);
+            log.info("Candidate list snapshot rebuilt with {} candidates in {} chunks", rebuilt.count, rebuilt.chunks.size());
+            return rebuilt;
+        } catch (RuntimeException ex) {
+            synchronized (lock) {
+                rebuilding = null;
+                createdDuringRebuild = null;
+            }
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Genera el snapshot completo recorriendo la tabla en streaming (orden por ID) y lo publica junto
+     * con las altas que llegaron mientras se leía y que la lectura no incluyó; las que sí leyó ya
+     * tienen su ID en el snapshot y la inserción las descarta.
+     */
+    private Snapshot scan() {
+        BirthdayCalendar calendar = mapper.today();
+        Snapshot scanned = readOnlyTx.execute(status -> {
+            List<Chunk> chunks = new ArrayList<>();
+            ChunkBuilder builder = new ChunkBuilder();
+            long count = 0;
+
+            try (Stream<CandidateRow> rows = repository.streamAllRows()) {
+                for (CandidateRow row : (Iterable<CandidateRow>) rows::iterator) {
+                    builder.add(row.getId(), serialize(row, calendar));
+                    count++;
+                    if (builder.size() >= CHUNK_SIZE) {
+                        chunks.add(builder.build());
+                    }
+                }
+            }
+            if (builder.size() > 0) {
+                chunks.add(builder.build());
+            }
+            return new Snapshot(calendar.asOf().toEpochDay(), List.copyOf(chunks), count);
+        });
+
+        synchronized (lock) {
+            Snapshot published = scanned;
+            for (CandidateRow row : createdDuringRebuild) {
+                published = published.insert(row.getId(), serialize(row, calendar));
+            }
+            current = published;
+            rebuilding = null;
+            createdDuringRebuild = null;
+            return published;
+        }
+    }
+
+    private static boolean isCurrent(Snapshot snapshot, long epochDay) {
+        return snapshot != null && snapshot.epochDay == epochDay;
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private byte[] serialize(CandidateRow row, BirthdayCalendar calendar) {
+        try {
+            byte[] json = writer.writeValueAsBytes(mapper.toResponse(row, calendar));
+            byte[] element = new byte[json.length + 1];
+            element[0] = ',';
+            System.arraycopy(json, 0, element, 1, json.length);
+            return element;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Estado inmutable del snapshot: los lectores toman la referencia y nunca ven un bloque a medias.
+     */
+    private static final class Snapshot {
+        private final long epochDay;
+        private final List<Chunk> chunks;
+        private final long count;
+
+        private Snapshot(long epochDay, List<Chunk> chunks, long count) {
+            this.epochDay = epochDay;
+            this.chunks = chunks;
+            this.count = count;
+        }
+
+        /**
+         * Nuevo snapshot con el elemento en su posición por ID; solo copia el bloque que lo recibe.
+         * Si el ID ya está, devuelve el mismo snapshot.
+         */
+        private Snapshot insert(long id, byte[] element) {
+            List<Chunk> next = new ArrayList<>(chunks);
+            Chunk tail = next.isEmpty() ? null : next.get(next.size() - 1);
+
+            if (tail == null || id > tail.lastId()) {
+                if (tail != null && tail.bytes.length + element.length <= CHUNK_SIZE) {
+                    next.set(next.size() - 1, tail.insert(tail.ids.length, id, element));
+                } else {
+                    next.add(new Chunk(element, new long[]{id}, new int[]{element.length}));
+                }
+            } else {
+                // las altas fuera de orden caen cerca del final: se busca el bloque desde atrás
+                int target = next.size() - 1;
+                while (target > 0 && next.get(target - 1).lastId() >= id) {
+                    target--;
+                }
+                Chunk chunk = next.get(target);
+                int position = Arrays.binarySearch(chunk.ids, id);
+                if (position >= 0) {
+                    return this;
+                }
+                next.set(target, chunk.insert(-position - 1, id, element));
+            }
+            return new Snapshot(epochDay, List.copyOf(next), count + 1);
+        }
+    }
+
+    /**
+     * Bloque inmutable de elementos JSON, cada uno con su coma delante, junto con sus IDs en orden
+     * y el offset donde termina cada elemento.
+     */
+    private static final class Chunk {
+        private final byte[] bytes;
+        private final long[] ids;
+        private final int[] ends;
+
+        private Chunk(byte[] bytes, long[] ids, int[] ends) {
+            this.bytes = bytes;
+            this.ids = ids;
+            this.ends = ends;
+        }
+
+        private long lastId() {
+            return ids[ids.length - 1];
+        }
+
+        /**
+         * Nuevo bloque con el elemento en la posición indicada.
+         */
+        private Chunk insert(int index, long id, byte[] element) {
+            int offset = index == 0 ? 0 : ends[index - 1];
+
+            byte[] nextBytes = new byte[bytes.length + element.length];
+            System.arraycopy(bytes, 0, nextBytes, 0, offset);
+            System.arraycopy(element, 0, nextBytes, offset, element.length);
+            System.arraycopy(bytes, offset, nextBytes, offset + element.length, bytes.length - offset);
+
+            long[] nextIds = new long[ids.length + 1];
+            int[] nextEnds = new int[ends.length + 1];
+            System.arraycopy(ids, 0, nextIds, 0, index);
+            System.arraycopy(ends, 0, nextEnds, 0, index);
+            nextIds[index] = id;
+            nextEnds[index] = offset + element.length;
+            for (int i = index; i < ids.length; i++) {
+                nextIds[i + 1] = ids[i];
+                nextEnds[i + 1] = ends[i] + element.length;
+            }
+            return new Chunk(nextBytes, nextIds, nextEnds);
+        }
+    }
+
+    /**
+     * Acumula elementos leídos en orden hasta completar un bloque.
+     */
+    private static final class ChunkBuilder {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_SIZE);
+        private long[] ids = new long[256];
+        private int[] ends = new int[256];
+        private int elements;
+
+        private void add(long id, byte[] element) {
+            if (elements == ids.length) {
+                ids = Arrays.copyOf(ids, elements * 2);
+                ends = Arrays.copyOf(ends, elements * 2);
+            }
+            buffer.writeBytes(element);
+            ids[elements] = id;
+            ends[elements] = buffer.size();
+            elements++;
+        }
+
+        private int size() {
+            return buffer.size();
+        }
+
+        private Chunk build() {
+            Chunk chunk = new Chunk(buffer.toByteArray(), Arrays.copyOf(ids, elements), Arrays.copyOf(ends, elements));
+            buffer.reset();
+            elements = 0;
+            return chunk;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Convierte filas de candidatos al DTO de respuesta calculando los campos derivados.
+ * Lo comparten el servicio y el snapshot pre-serializado del listado.
+ *
+ * Los campos que dependen de la fecha se resuelven con un {@link BirthdayCalendar} que se arma
+ * una vez por día; cada petición toma el calendario al inicio con {@link #today()} y lo usa
+ * para todas sus filas.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class CandidateResponseMapper {
+
+    /** Años desde el nacimiento para la fecha estimada de evento */
+    private static final int EVENT_YEARS = 75;
+
+    private final Clock clock;
+    private final AtomicReference<BirthdayCalendar> calendar = new AtomicReference<>();
+
+    public CandidateResponseMapper(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Calendario de la fecha actual; se reconstruye solo cuando cambia el día.
+     */
+    public BirthdayCalendar today() {
+        LocalDate today = LocalDate.now(clock);
+        BirthdayCalendar cached = calendar.get();
+        if (cached != null && cached.asOf().equals(today)) {
+            return cached;
+        }
+
+        BirthdayCalendar rebuilt = BirthdayCalendar.of(today);
+        calendar.set(rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Convierte la fila usando el calendario del día actual.
+     */
+    public CandidateResponse toResponse(CandidateRow c) {
+        return toResponse(c, today());
+    }
+
+    /**
+     * Convierte la proyección CandidateRow a DTO CandidateResponse con cálculos adicionales.
+     * Calcula próximo cumpleaños, días restantes, edad en meses y fecha estimada
+     * a partir de las tablas del calendario recibido.
+     */
+    public CandidateResponse toResponse(CandidateRow c, BirthdayCalendar calendar) {
+        try {
+            LocalDate birthDate = c.getBirthDate();
+
+            return new CandidateResponse(
+                    c.getId(),
+                    c.getFirstName(),
+                    c.getLastName(),
+                    c.getAge(),
+                    birthDate,
+                    birthDate.plusYears(EVENT_YEARS),
+                    calendar.nextBirthday(birthDate),
+                    calendar.daysToNextBirthday(birthDate),
+                    calendar.ageInMonths(birthDate));
+
+        } catch (Exception ex) {
+            log.error("Error mapping candidate to response: {}", ex.getMessage());
+            throw new RuntimeException("Error al procesar los datos del candidato", ex);
+        }
+    }
+
+    /**
+     * Convierte la fila incluyendo solo los campos pedidos; los campos derivados que no se piden
+     * no se calculan y quedan en null (se omiten al serializar).
+     */
+    public CandidateResponse toResponse(CandidateRow c, BirthdayCalendar calendar, Set<CandidateField> fields) {
+        if (fields.size() == CandidateField.ALL.size()) {
+            return toResponse(c, calendar);
+        }
+
+        try {
+            LocalDate birthDate = c.getBirthDate();
+            CandidateResponse response = new CandidateResponse();
+
+            if (fields.contains(CandidateField.ID)) {
+                response.setId(c.getId());
+            }
+            if (fields.contains(CandidateField.FIRST_NAME)) {
+                response.setFirstName(c.getFirstName());
+            }
+            if (fields.contains(CandidateField.LAST_NAME)) {
+                response.setLastName(c.getLastName());
+            }
+            if (fields.contains(CandidateField.AGE)) {
+                response.setAge(c.getAge());
+            }
+            if (fields.contains(CandidateField.BIRTH_DATE)) {
+                response.setBirthDate(birthDate);
+            }
+            if (fields.contains(CandidateField.ESTIMATED_EVENT_DATE)) {
+                response.setEstimatedEventDate(birthDate.plusYears(EVENT_YEARS));
+            }
+            if (fields.contains(CandidateField.NEXT_BIRTHDAY)) {
+                response.setNextBirthday(calendar.nextBirthday(birthDate));
+            }
+            if (fields.contains(CandidateField.DAYS_TO_NEXT_BIRTHDAY)) {
+                response.setDaysToNextBirthday(calendar.daysToNextBirthday(birthDate));
+            }
+            if (fields.contains(CandidateField.AGE_IN_MONTHS)) {
+                response.setAgeInMonths(calendar.ageInMonths(birthDate));
+            }
+            return response;
+
+        } catch (Exception ex) {
+            log.error("Error mapping candidate to response: {}", ex.getMessage());
+            throw new RuntimeException("Error al procesar los datos del candidato", ex);
+        }
+    }
+}
@@ -1,14 +1,34 @@
 package com.seek.candidatosmanagementapi.service;
 
 
+import com.seek.candidatosmanagementapi.dto.AgeDistributionResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidatePageResponse;
 import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CohortStatsResponse;
 import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
+import com.seek.candidatosmanagementapi.dto.MetricsHistoryPoint;
 import com.seek.candidatosmanagementapi.dto.MetricsResponse;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CandidateService {
     CandidateResponse createCandidate(CreateCandidateRequest request);
-    List<CandidateResponse> getAllCandidates();
-    MetricsResponse getMetrics();
+    CandidateResponse createCandidate(CreateCandidateRequest request, String idempotencyKey);
+    BulkCreateResponse createCandidates(List<CreateCandidateRequest> requests);
+    BulkCreateResponse createCandidates(List<CreateCandidateRequest> requests, String idempotencyKey);
+    IngestionStatusResponse acceptCandidate(CreateCandidateRequest request);
+    IngestionStatusResponse getIngestionStatus(String trackingId);
+    List<CandidateResponse> getAllCandidates(CandidateFilter filter, String sort, String fields);
+    CandidatePageResponse getCandidatesPage(CandidateFilter filter, String sort, String fields, String after, int limit);
+    List<CandidateResponse> getTopCandidates(String by, String order, int n);
+    void streamAllCandidates(Consumer<CandidateResponse> consumer);
+    MetricsResponse getMetrics(String mode, Double confidence);
+    AgeDistributionResponse getAgeDistribution();
+    List<CohortStatsResponse> getCohortMetrics(String granularity);
+    List<MetricsHistoryPoint> getMetricsHistory(Instant from, Instant to, String step);
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Marcador de versión de la tabla "candidates" usado para los ETag del listado y las métricas.
+ *
+ * La versión se incrementa después del commit de cada escritura, por lo que una respuesta
+ * etiquetada con la versión leída antes de consultar nunca queda asociada a datos más viejos.
+ * El ETag incluye el día actual porque los campos derivados (edad en meses, próximo cumpleaños)
+ * cambian a medianoche aunque la tabla no cambie, y el formato de la representación (JSON, Smile, CBOR)
+ * porque cada formato es un cuerpo distinto para la misma versión.
+ *
+ * La versión vive en memoria de cada instancia: el prefijo aleatorio evita que dos instancias
+ * o dos arranques emitan el mismo ETag, pero una instancia no ve las escrituras hechas en otra.
+ */
+@Component
+public class CandidateTableVersion {
+
+    private final String instanceId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Clock clock;
+
+    public CandidateTableVersion(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Incrementa la versión cuando la transacción que insertó candidatos confirma.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Versión actual de la tabla en esta instancia.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * ETag fuerte para la versión actual de la tabla, el día de hoy y el formato de la representación.
+     */
+    public String currentETag(String representation) {
+        return "\"" + instanceId + "-" + version.get() + "-" + LocalDate.now(clock).toEpochDay()
+                + "-" + representation + "\"";
+    }
+}
@@ -0,0 +1,321 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.candidatosmanagementapi.entity.IdempotencyKey;
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import com.seek.candidatosmanagementapi.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * Soporte del header {@code Idempotency-Key} en las altas.
+ *
+ * La primera petición con una clave la reserva en "idempotency_keys" junto con el SHA-256 de su cuerpo,
+ * ejecuta el alta y guarda la respuesta en JSON. Un reintento con la misma clave y el mismo cuerpo recibe
+ * esa respuesta sin volver a insertar; con otro cuerpo, o mientras la original sigue en proceso, se
+ * rechaza. Si el alta falla la reserva se libera y la clave puede reintentarse.
+ *
+ * La reserva vence a los {@code candidates.idempotency.lease} y se renueva cada tercio de ese plazo mientras
+ * el alta sigue en curso, así una carga masiva larga no pierde la clave a mitad de camino; al guardar la
+ * respuesta el vencimiento pasa a {@code candidates.idempotency.ttl}. Si la instancia cae con el alta en
+ * curso, o la respuesta no se pudo guardar (base caída entre el alta y ese UPDATE), la clave no queda
+ * "en proceso" hasta el TTL: al vencer la reserva un reintento la toma y ejecuta de nuevo, y el detector
+ * de duplicados rechaza el repetido.
+ *
+ * Las respuestas completadas se guardan además en memoria, en un LRU limitado por peso (el largo de su JSON,
+ * hasta {@code candidates.idempotency.cache.max-weight}), para responder los reintentos sin ir a la base.
+ * Una respuesta que pesa más de una cuarta parte del límite (una carga masiva grande) no se guarda en memoria
+ * y sus reintentos se responden desde la base. Las claves se purgan periódicamente de ambos lugares.
+ *
+ * Publica el contador {@code candidates.idempotency} con {@code result} = hit, replay o miss.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class IdempotencyKeys {
+
+    /** Largo máximo de la clave enviada por el cliente */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    /** Fracción máxima del peso de la memoria que puede ocupar una sola respuesta */
+    private static final int MAX_ENTRY_SHARE = 4;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long maxCachedWeight;
+    private final Counter hits;
+    private final Counter replays;
+    private final Counter misses;
+
+    private final Object cacheLock = new Object();
+    private final LinkedHashMap<String, Completed> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedWeight;
+
+    public IdempotencyKeys(IdempotencyKeyRepository repository,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           TaskScheduler taskScheduler,
+                           Clock clock,
+                           MeterRegistry meterRegistry,
+                           @Value("${candidates.idempotency.ttl:PT24H}") Duration ttl,
+                           @Value("${candidates.idempotency.lease:PT2M}") Duration lease,
+                           @Value("${candidates.idempotency.cache.max-weight:16MB}") DataSize maxCachedWeight) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.maxCachedWeight = maxCachedWeight.toBytes();
+        this.hits = meterRegistry.counter("candidates.idempotency", "result", "hit");
+        this.replays = meterRegistry.counter("candidates.idempotency", "result", "replay");
+        this.misses = meterRegistry.counter("candidates.idempotency", "result", "miss");
+    }
+
+    /**
+     * Ejecuta {@code action} una sola vez por clave y cuerpo, o devuelve la respuesta que obtuvo la primera vez.
+     * @param operation operación protegida (create, bulk); la misma clave puede usarse en operaciones distintas
+     * @param idempotencyKey clave enviada por el cliente
+     * @param request cuerpo de la petición, para detectar reutilizaciones de la clave con otro contenido
+     * @param responseType tipo de la respuesta guardada
+     * @param action alta a ejecutar si la clave es nueva
+     * @throws BadRequestException si la clave está vacía o es demasiado larga
+     * @throws BusinessException si la clave se usó con otro cuerpo o la petición original sigue en proceso
+     */
+    public <T> T execute(String operation, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        String key = operation + ":" + idempotencyKey;
+        String requestHash = fingerprint(request);
+
+        Completed cached = cached(key);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            checkSameRequest(cached.requestHash, requestHash);
+            hits.increment();
+            return responseType.cast(cached.response);
+        }
+
+        Optional<T> stored = reserveOrFind(key, requestHash, responseType);
+        if (stored.isPresent()) {
+            replays.increment();
+            return stored.get();
+        }
+
+        misses.increment();
+        T response;
+        Duration renewEvery = lease.dividedBy(3);
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(() -> renew(key, requestHash),
+                clock.instant().plus(renewEvery), renewEvery);
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            release(key);
+            throw ex;
+        } finally {
+            renewal.cancel(false);
+        }
+
+        // El alta ya se confirmó: si la respuesta no se puede guardar se responde igual y la reserva vence sola
+        String json = toJson(response);
+        Instant expiresAt = clock.instant().plus(ttl);
+        try {
+            Integer completed = transactionTemplate.execute(status -> repository.complete(key, requestHash, json, expiresAt));
+            if (completed == null || completed == 0) {
+                log.warn("Idempotency key {} is no longer reserved by this request, its response was not stored", key);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not store the response for idempotency key {}, it will be released when its reservation expires: {}",
+                    key, ex.getMessage());
+        }
+        cache(key, new Completed(requestHash, response, expiresAt, json.length()));
+        return response;
+    }
+
+    /**
+     * Elimina las claves vencidas de la base y de la memoria.
+     */
+    @Scheduled(fixedDelayString = "${candidates.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        synchronized (cacheLock) {
+            Iterator<Completed> entries = cache.values().iterator();
+            while (entries.hasNext()) {
+                Completed completed = entries.next();
+                if (!now.isBefore(completed.expiresAt)) {
+                    cachedWeight -= completed.weight;
+                    entries.remove();
+                }
+            }
+        }
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(now));
+        log.debug("Purged {} expired idempotency keys", deleted);
+    }
+
+    /**
+     * Reserva la clave para esta petición (vacío) o devuelve la respuesta guardada por la original.
+     * Una clave vencida (o una reserva cuyo plazo venció sin respuesta) se elimina y se vuelve a reservar.
+     */
+    private <T> Optional<T> reserveOrFind(String key, String requestHash, Class<T> responseType) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Instant now = clock.instant();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    repository.deleteIfExpired(key, now);
+                    repository.reserve(key, requestHash, now, now.plus(lease));
+                });
+                return Optional.empty();
+            } catch (DataIntegrityViolationException ex) {
+                Optional<IdempotencyKey> existing = repository.findById(key);
+                if (existing.isEmpty()) {
+                    // La petición original falló y liberó la clave entre el INSERT y la lectura
+                    continue;
+                }
+
+                IdempotencyKey original = existing.get();
+                checkSameRequest(original.getRequestHash(), requestHash);
+                if (original.getResponse() == null) {
+                    break;
+                }
+                T response = fromJson(original.getResponse(), responseType);
+                cache(key, new Completed(requestHash, response, original.getExpiresAt(), original.getResponse().length()));
+                return Optional.of(response);
+            }
+        }
+        throw new BusinessException("Ya hay una petición en proceso con la misma Idempotency-Key. Reintente más tarde");
+    }
+
+    /**
+     * Extiende la reserva mientras la petición original sigue en curso.
+     */
+    private void renew(String key, String requestHash) {
+        try {
+            Instant expiresAt = clock.instant().plus(lease);
+            Integer renewed = transactionTemplate.execute(status -> repository.renew(key, requestHash, expiresAt));
+            if (renewed == null || renewed == 0) {
+                log.warn("Idempotency key {} is no longer reserved by this request, its lease was not renewed", key);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not renew the lease of idempotency key {}: {}", key, ex.getMessage());
+        }
+    }
+
+    /**
+     * Libera la reserva de una petición fallida; si no se puede, la reserva vence sola y el error
+     * original de la petición no se pierde.
+     */
+    private void release(String key) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.release(key));
+        } catch (RuntimeException ex) {
+            log.warn("Could not release idempotency key {}, it will be released when its reservation expires: {}",
+                    key, ex.getMessage());
+        }
+    }
+
+    private Completed cached(String key) {
+        synchronized (cacheLock) {
+            return cache.get(key);
+        }
+    }
+
+    /**
+     * Guarda la respuesta en memoria y descarta las menos usadas hasta volver al peso máximo.
+     * Las respuestas demasiado pesadas no se guardan.
+     */
+    private void cache(String key, Completed completed) {
+        if (completed.weight > maxCachedWeight / MAX_ENTRY_SHARE) {
+            return;
+        }
+
+        synchronized (cacheLock) {
+            Completed previous = cache.put(key, completed);
+            cachedWeight += completed.weight - (previous == null ? 0 : previous.weight);
+            Iterator<Completed> eldest = cache.values().iterator();
+            while (cachedWeight > maxCachedWeight) {
+                cachedWeight -= eldest.next().weight;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static void checkSameRequest(String originalHash, String requestHash) {
+        if (!originalHash.equals(requestHash)) {
+            throw new BusinessException("La Idempotency-Key ya se usó con un contenido distinto");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("No se pudo calcular la huella de la petición", ex);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", ex);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo leer la respuesta guardada", ex);
+        }
+    }
+
+    /**
+     * Respuesta completada en memoria, con la huella del cuerpo original, su vencimiento y su peso.
+     */
+    private static final class Completed {
+        private final String requestHash;
+        private final Object response;
+        private final Instant expiresAt;
+        private final long weight;
+
+        private Completed(String requestHash, Object response, Instant expiresAt, long weight) {
+            this.requestHash = requestHash;
+            this.response = response;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache de métricas con coalescencia de peticiones concurrentes (single-flight).
+ *
+ * Por cada clave hay a lo sumo un cálculo en curso: las peticiones que llegan mientras tanto
+ * esperan ese mismo resultado en lugar de consultar otra vez. El resultado se reutiliza durante
+ * {@code candidates.metrics.cache.ttl} y se descarta después del commit de cada alta.
+ * Los errores no se guardan: cada espera recibe la misma excepción y el siguiente pedido recalcula.
+ *
+ * Publica el contador {@code candidates.metrics.cache} con {@code result} = hit, miss o coalesced.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Component
+public class MetricsCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public MetricsCache(MeterRegistry meterRegistry,
+                        @Value("${candidates.metrics.cache.ttl:PT30S}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter("candidates.metrics.cache", "result", "hit");
+        this.misses = meterRegistry.counter("candidates.metrics.cache", "result", "miss");
+        this.coalesced = meterRegistry.counter("candidates.metrics.cache", "result", "coalesced");
+    }
+
+    /**
+     * Devuelve las métricas de la clave: desde la cache si siguen vigentes, esperando el cálculo
+     * en curso si lo hay, o calculándolas en este hilo con {@code loader}.
+     */
+    public MetricsResponse get(String key, Supplier<MetricsResponse> loader) {
+        while (true) {
+            Entry current = entries.get(key);
+            if (current != null) {
+                if (!current.result.isDone()) {
+                    coalesced.increment();
+                    return await(current);
+                }
+                if (System.nanoTime() < current.expiresAt) {
+                    hits.increment();
+                    return await(current);
+                }
+            }
+
+            Entry loading = new Entry();
+            boolean owner = current == null
+                    ? entries.putIfAbsent(key, loading) == null
+                    : entries.replace(key, current, loading);
+            if (owner) {
+                misses.increment();
+                return load(key, loading, loader);
+            }
+        }
+    }
+
+    /**
+     * Descarta todas las métricas guardadas cuando la transacción que insertó candidatos confirma.
+     * Los cálculos en curso terminan para quienes ya los esperaban, pero no quedan en la cache.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        entries.clear();
+    }
+
+    private MetricsResponse load(String key, Entry loading, Supplier<MetricsResponse> loader) {
+        try {
+            MetricsResponse value = loader.get();
+            loading.expiresAt = System.nanoTime() + ttlNanos;
+            loading.result.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            entries.remove(key, loading);
+            loading.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private MetricsResponse await(Entry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Resultado (o cálculo en curso) de una clave; {@code expiresAt} se fija antes de completarlo.
+     */
+    private static final class Entry {
+        private final CompletableFuture<MetricsResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+    }
+}
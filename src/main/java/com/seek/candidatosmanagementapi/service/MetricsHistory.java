@@ -0,0 +1,177 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.MetricsHistoryPoint;
+import com.seek.candidatosmanagementapi.entity.CandidateMetricsHistory;
+import com.seek.candidatosmanagementapi.repository.CandidateMetricsHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Historial de métricas de edad tomado por una tarea programada.
+ *
+ * Cada foto se guarda en "candidate_metrics_history" y en un buffer circular de tamaño fijo
+ * ({@code candidates.metrics.history.capacity}) con las más recientes. Los rangos que caen dentro
+ * del buffer se responden desde memoria; los más antiguos se leen de la tabla. Al arrancar, el buffer
+ * se carga con las últimas fotos guardadas.
+ *
+ * La foto usa las edades a la fecha del día de {@link CandidateBirthDates}, sin recorrer la tabla de candidatos.
+ * Cada instancia toma sus propias fotos.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class MetricsHistory {
+
+    /** Rango consultado cuando no se indica {@code from} */
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(24);
+
+    private final CandidateBirthDates birthDates;
+    private final CandidateMetricsHistoryRepository historyRepository;
+    private final Clock clock;
+
+    private final MetricsHistoryPoint[] buffer;
+    private int next;
+    private int size;
+
+    public MetricsHistory(CandidateBirthDates birthDates,
+                          CandidateMetricsHistoryRepository historyRepository,
+                          Clock clock,
+                          @Value("${candidates.metrics.history.capacity:2016}") int capacity) {
+        this.birthDates = birthDates;
+        this.historyRepository = historyRepository;
+        this.clock = clock;
+        this.buffer = new MetricsHistoryPoint[capacity];
+    }
+
+    /**
+     * Carga en el buffer las fotos más recientes guardadas, de la más vieja a la más nueva.
+     */
+    @PostConstruct
+    public void load() {
+        List<CandidateMetricsHistory> latest = historyRepository.findAllByOrderByCapturedAtDesc(PageRequest.of(0, buffer.length));
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            add(toPoint(latest.get(i)));
+        }
+        log.info("Metrics history loaded with {} snapshots", latest.size());
+    }
+
+    /**
+     * Toma una foto de las métricas actuales, la guarda y la agrega al buffer.
+     */
+    @Scheduled(initialDelayString = "${candidates.metrics.history.interval:PT5M}",
+            fixedRateString = "${candidates.metrics.history.interval:PT5M}")
+    public MetricsHistoryPoint capture() {
+        AgeStats stats = birthDates.ageStats(LocalDate.now(clock));
+        MetricsHistoryPoint point = MetricsHistoryPoint.builder()
+                .capturedAt(Instant.now(clock))
+                .candidateCount(stats.getCount() == null ? 0 : stats.getCount())
+                .averageAge(stats.average())
+                .ageStdDeviation(stats.populationStdDeviation())
+                .build();
+
+        historyRepository.save(CandidateMetricsHistory.builder()
+                .capturedAt(point.getCapturedAt())
+                .candidateCount(point.getCandidateCount())
+                .averageAge(point.getAverageAge())
+                .ageStdDeviation(point.getAgeStdDeviation())
+                .build());
+        add(point);
+
+        log.debug("Metrics snapshot captured: {}", point);
+        return point;
+    }
+
+    /**
+     * Fotos tomadas en [from, to], de la más antigua a la más reciente.
+     * Con {@code step}, el rango se divide en intervalos de ese tamaño desde {@code from}
+     * y de cada intervalo queda solo la última foto.
+     * @param from inicio del rango, o null para las últimas 24 horas hasta {@code to}
+     * @param to fin del rango, o null para el momento actual
+     * @param step tamaño del intervalo de muestreo, o null para devolver todas las fotos
+     */
+    public List<MetricsHistoryPoint> range(Instant from, Instant to, Duration step) {
+        if (to == null) {
+            to = Instant.now(clock);
+        }
+        if (from == null) {
+            from = to.minus(DEFAULT_RANGE);
+        }
+
+        List<MetricsHistoryPoint> points = fromBuffer(from, to);
+        if (points == null) {
+            points = new ArrayList<>();
+            for (CandidateMetricsHistory entry : historyRepository.findByCapturedAtBetweenOrderByCapturedAtAsc(from, to)) {
+                points.add(toPoint(entry));
+            }
+        }
+        return step == null ? points : downsample(points, from, step);
+    }
+
+    /**
+     * Fotos del rango desde memoria, o null si el rango empieza antes de la foto más vieja del buffer.
+     */
+    private synchronized List<MetricsHistoryPoint> fromBuffer(Instant from, Instant to) {
+        if (size == 0) {
+            return null;
+        }
+
+        int oldest = Math.floorMod(next - size, buffer.length);
+        if (from.isBefore(buffer[oldest].getCapturedAt())) {
+            return null;
+        }
+
+        List<MetricsHistoryPoint> points = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            MetricsHistoryPoint point = buffer[(oldest + i) % buffer.length];
+            if (!point.getCapturedAt().isBefore(from) && !point.getCapturedAt().isAfter(to)) {
+                points.add(point);
+            }
+        }
+        return points;
+    }
+
+    private synchronized void add(MetricsHistoryPoint point) {
+        buffer[next] = point;
+        next = (next + 1) % buffer.length;
+        size = Math.min(size + 1, buffer.length);
+    }
+
+    private List<MetricsHistoryPoint> downsample(List<MetricsHistoryPoint> points, Instant from, Duration step) {
+        List<MetricsHistoryPoint> sampled = new ArrayList<>();
+        long stepMillis = step.toMillis();
+        long lastBucket = -1;
+
+        for (MetricsHistoryPoint point : points) {
+            long bucket = Duration.between(from, point.getCapturedAt()).toMillis() / stepMillis;
+            if (bucket == lastBucket) {
+                sampled.set(sampled.size() - 1, point);
+            } else {
+                sampled.add(point);
+                lastBucket = bucket;
+            }
+        }
+        return sampled;
+    }
+
+    private MetricsHistoryPoint toPoint(CandidateMetricsHistory entry) {
+        return MetricsHistoryPoint.builder()
+                .capturedAt(entry.getCapturedAt())
+                .candidateCount(entry.getCandidateCount())
+                .averageAge(entry.getAverageAge())
+                .ageStdDeviation(entry.getAgeStdDeviation())
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Difusión de métricas por Server-Sent Events a los suscriptores de {@code /metrics/stream}.
+ *
+ * Las altas solo marcan las métricas como desactualizadas; una tarea programada cada
+ * {@code candidates.metrics.stream.interval} las calcula una sola vez desde {@link CandidateBirthDates},
+ * sin pasar por {@link MetricsCache} (que podría devolver un cálculo anterior al alta si todavía no
+ * se limpió), y envía el mismo resultado a todos los suscriptores, así el costo no crece con la
+ * cantidad de pantallas conectadas y se envía a lo sumo un evento por intervalo.
+ *
+ * Al suscribirse se envían las métricas actuales (desde {@link MetricsCache}). Las métricas enviadas
+ * incluyen las altas de otras instancias que ya sincronizó {@link CandidateBirthDates}, pero solo
+ * las altas hechas en esta instancia disparan un envío.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class MetricsStream {
+
+    /** Nombre del evento SSE enviado con cada {@link MetricsResponse} */
+    public static final String EVENT_NAME = "metrics";
+
+    private final CandidateService service;
+    private final CandidateBirthDates birthDates;
+    private final Clock clock;
+    private final long timeoutMillis;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public MetricsStream(CandidateService service,
+                         CandidateBirthDates birthDates,
+                         Clock clock,
+                         @Value("${candidates.metrics.stream.timeout:PT30M}") Duration timeout) {
+        this.service = service;
+        this.birthDates = birthDates;
+        this.clock = clock;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Registra un suscriptor y le envía las métricas actuales, si hay candidatos.
+     * Al vencer el timeout la conexión se cierra y el cliente (EventSource) se reconecta.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(ex -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+
+        MetricsResponse metrics = currentMetrics();
+        if (metrics != null) {
+            send(emitter, metrics);
+        }
+        log.debug("Metrics stream subscriber added ({} active)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Marca las métricas como desactualizadas cuando la transacción que insertó candidatos confirma.
+     * Corre después de que {@link CandidateBirthDates} agregue las fechas (ver su {@code @Order}).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidatesCreated(CandidatesCreatedEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * Si hubo altas desde el último envío, calcula las métricas una vez y las envía a todos.
+     */
+    @Scheduled(fixedRateString = "${candidates.metrics.stream.interval:PT1S}")
+    public void publish() {
+        if (!stale.getAndSet(false) || subscribers.isEmpty()) {
+            return;
+        }
+
+        MetricsResponse metrics = computeMetrics();
+        if (metrics == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, metrics);
+        }
+        log.debug("Metrics pushed to {} subscribers", subscribers.size());
+    }
+
+    /**
+     * Cantidad de suscriptores conectados.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Cierra las conexiones abiertas al detener la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private MetricsResponse currentMetrics() {
+        try {
+            return service.getMetrics(null, null);
+        } catch (BusinessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Métricas exactas a la fecha del día calculadas en este hilo, o null si no hay candidatos.
+     */
+    private MetricsResponse computeMetrics() {
+        AgeStats stats = birthDates.ageStats(LocalDate.now(clock));
+        if (stats.getCount() == null || stats.getCount() == 0) {
+            return null;
+        }
+        return MetricsResponse.builder()
+                .averageAge(stats.average())
+                .ageStdDeviation(stats.populationStdDeviation())
+                .build();
+    }
+
+    /**
+     * Envía un evento; si la conexión ya no está, el suscriptor se descarta.
+     */
+    private void send(SseEmitter emitter, MetricsResponse metrics) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(metrics, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+}
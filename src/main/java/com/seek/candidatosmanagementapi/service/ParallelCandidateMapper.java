@@ -0,0 +1,134 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapea listados grandes de candidatos repartiendo las filas en bloques sobre un
+ * {@link ForkJoinPool} propio, para no competir con el pool común que usan otras peticiones.
+ *
+ * Cada bloque escribe sus respuestas en la misma posición que ocupa la fila de origen,
+ * así el resultado conserva el orden de la consulta. Por debajo del umbral, o con el modo
+ * desactivado, el mapeo es secuencial en el hilo de la petición.
+ *
+ * Se activa con {@code candidates.mapping.parallel.enabled}; el tamaño del pool
+ * (0 = procesadores disponibles) y el umbral también son configurables.
+ *
+ * @author Jose Osorio Catalan
+ */
+@Slf4j
+@Component
+public class ParallelCandidateMapper {
+
+    /** Cantidad mínima de filas por bloque; por debajo el costo de repartir supera al del mapeo */
+    static final int MIN_CHUNK_SIZE = 1024;
+
+    private final CandidateResponseMapper mapper;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    public ParallelCandidateMapper(CandidateResponseMapper mapper,
+                                   @Value("${candidates.mapping.parallel.enabled:false}") boolean enabled,
+                                   @Value("${candidates.mapping.parallel.pool-size:0}") int poolSize,
+                                   @Value("${candidates.mapping.parallel.threshold:10000}") int threshold) {
+        this.mapper = mapper;
+        this.threshold = threshold;
+        this.pool = enabled ? createPool(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors()) : null;
+    }
+
+    /**
+     * Convierte las filas al DTO de respuesta en el mismo orden, en paralelo si la lista supera el umbral.
+     */
+    public List<CandidateResponse> mapAll(List<CandidateRow> rows, BirthdayCalendar calendar, Set<CandidateField> fields) {
+        if (pool == null || rows.size() < threshold) {
+            List<CandidateResponse> responses = new ArrayList<>(rows.size());
+            for (CandidateRow row : rows) {
+                responses.add(mapper.toResponse(row, calendar, fields));
+            }
+            return responses;
+        }
+
+        CandidateResponse[] responses = new CandidateResponse[rows.size()];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, rows.size() / (pool.getParallelism() * 4));
+        pool.invoke(new MapChunk(rows, responses, 0, rows.size(), chunkSize, calendar, fields));
+        return Arrays.asList(responses);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool == null) {
+            return;
+        }
+
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        log.info("Parallel candidate mapping enabled with {} threads", parallelism);
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("candidate-mapping-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Mapea el rango [from, to) dividiéndolo a la mitad hasta llegar al tamaño de bloque.
+     */
+    private final class MapChunk extends RecursiveAction {
+        private final List<CandidateRow> rows;
+        private final CandidateResponse[] responses;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final BirthdayCalendar calendar;
+        private final Set<CandidateField> fields;
+
+        private MapChunk(List<CandidateRow> rows, CandidateResponse[] responses, int from, int to, int chunkSize,
+                         BirthdayCalendar calendar, Set<CandidateField> fields) {
+            this.rows = rows;
+            this.responses = responses;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.calendar = calendar;
+            this.fields = fields;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    responses[i] = mapper.toResponse(rows.get(i), calendar, fields);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new MapChunk(rows, responses, from, middle, chunkSize, calendar, fields),
+                    new MapChunk(rows, responses, middle, to, chunkSize, calendar, fields));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.seek.candidatosmanagementapi.service;
+
+import java.util.Arrays;
+
+/**
+ * IDs leídos al recorrer la tabla de candidatos en orden de ID; se buscan por bisección.
+ * Lo usan las reconstrucciones en memoria para saber si un alta que llegó durante el recorrido
+ * ya estaba incluida en la lectura.
+ *
+ * @author Jose Osorio Catalan
+ */
+final class ScannedIds {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    /**
+     * Agrega un ID; deben llegar en orden ascendente.
+     */
+    void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.seek.candidatosmanagementapi.service.impl;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Codifica y decodifica el cursor opaco de la paginación por keyset.
+ * El cliente solo ve un token Base64 URL-safe; internamente contiene el ordenamiento,
+ * el último ID entregado y el valor del campo de orden de esa fila ({@code sort|id|valor}).
+ */
+final class CandidateCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private CandidateCursor() {
+    }
+
+    /**
+     * Genera el cursor a partir de la última fila de la página.
+     */
+    static String encode(CandidateSort sort, CandidateRow last) {
+        String raw = sort + SEPARATOR + last.getId() + SEPARATOR + sortValue(sort, last);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstruye la última fila entregada (solo ID y campo de orden) a partir del cursor recibido.
+     * @throws BadRequestException si el cursor fue alterado o corresponde a otro ordenamiento
+     */
+    static CandidateRow decode(String cursor, CandidateSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new BadRequestException("El cursor de paginación no es válido");
+            }
+            if (!parts[0].equals(sort.toString())) {
+                throw new BadRequestException("El cursor de paginación no corresponde al ordenamiento solicitado");
+            }
+
+            CandidateRow row = new CandidateRow();
+            row.setId(Long.parseLong(parts[1]));
+            switch (sort.getField()) {
+                case AGE -> row.setAge(Integer.parseInt(parts[2]));
+                case BIRTH_DATE -> row.setBirthDate(LocalDate.parse(parts[2]));
+                case LAST_NAME -> row.setLastName(parts[2]);
+                case ID -> { }
+            }
+            return row;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("El cursor de paginación no es válido", ex);
+        }
+    }
+
+    private static String sortValue(CandidateSort sort, CandidateRow row) {
+        return switch (sort.getField()) {
+            case ID -> "";
+            case AGE -> String.valueOf(row.getAge());
+            case BIRTH_DATE -> row.getBirthDate().toString();
+            case LAST_NAME -> row.getLastName();
+        };
+    }
+}
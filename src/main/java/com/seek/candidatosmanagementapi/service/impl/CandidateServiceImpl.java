@@ -1,24 +1,75 @@
 package com.seek.candidatosmanagementapi.service.impl;
 
+import com.seek.candidatosmanagementapi.dto.AgeCount;
+import com.seek.candidatosmanagementapi.dto.AgeDistributionResponse;
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResult;
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidatePageResponse;
 import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.dto.CohortGranularity;
+import com.seek.candidatosmanagementapi.dto.CohortStatsResponse;
 import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
+import com.seek.candidatosmanagementapi.dto.MetricsHistoryPoint;
 import com.seek.candidatosmanagementapi.dto.MetricsResponse;
 import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.entity.CandidateCohortStats;
+import com.seek.candidatosmanagementapi.entity.CandidateIngestion;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
 import com.seek.candidatosmanagementapi.exception.BusinessException;
 import com.seek.candidatosmanagementapi.exception.DataIntegrityException;
+import com.seek.candidatosmanagementapi.exception.NotFoundException;
+import com.seek.candidatosmanagementapi.exception.ServiceUnavailableException;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateCohortStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateIngestionRepository;
 import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import com.seek.candidatosmanagementapi.service.ApproximateAgeMetrics;
+import com.seek.candidatosmanagementapi.service.BirthdayCalendar;
+import com.seek.candidatosmanagementapi.service.CandidateBatchWriter;
+import com.seek.candidatosmanagementapi.service.CandidateBirthDates;
+import com.seek.candidatosmanagementapi.service.CandidateDuplicateDetector;
+import com.seek.candidatosmanagementapi.service.CandidateGroupCommitter;
+import com.seek.candidatosmanagementapi.service.CandidateJournal;
+import com.seek.candidatosmanagementapi.service.CandidateResponseMapper;
 import com.seek.candidatosmanagementapi.service.CandidateService;
+import com.seek.candidatosmanagementapi.service.IdempotencyKeys;
+import com.seek.candidatosmanagementapi.service.MetricsCache;
+import com.seek.candidatosmanagementapi.service.MetricsHistory;
+import com.seek.candidatosmanagementapi.service.ParallelCandidateMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de gestión de candidatos.
@@ -31,47 +82,82 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class CandidateServiceImpl implements CandidateService {
+
+    /** Percentiles informados en la distribución de edades */
+    private static final int[] DISTRIBUTION_PERCENTILES = {50, 90, 95, 99};
+
+    /** Nivel de confianza por defecto del modo aproximado de métricas */
+    private static final double DEFAULT_CONFIDENCE = 0.95;
+
+    /** Niveles de confianza admitidos; acotan las claves del modo aproximado en {@link MetricsCache} */
+    private static final Set<Double> CONFIDENCE_LEVELS = Set.of(0.80, 0.90, 0.95, 0.99);
+
+    /** Motivo de rechazo de un candidato que ya existe */
+    private static final String DUPLICATE_MESSAGE = "Ya existe un candidato con el mismo nombre, apellido y fecha de nacimiento";
+
     private final CandidateRepository repository;
+    private final CandidateAgeStatsRepository ageStatsRepository;
+    private final CandidateCohortStatsRepository cohortStatsRepository;
+    private final CandidateIngestionRepository ingestionRepository;
+    private final CandidateResponseMapper mapper;
+    private final ParallelCandidateMapper parallelMapper;
+    private final MetricsHistory metricsHistory;
+    private final ApproximateAgeMetrics approximateMetrics;
+    private final CandidateBirthDates birthDates;
+    private final CandidateDuplicateDetector duplicateDetector;
+    private final MetricsCache metricsCache;
+    private final CandidateBatchWriter batchWriter;
+    private final CandidateGroupCommitter groupCommitter;
+    private final CandidateJournal journal;
+    private final IdempotencyKeys idempotencyKeys;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Crea un nuevo candidato validando datos y calculando edad automáticamente.
+     * La validación corre fuera de transacción; la inserción abre la suya, o se agrupa con otras altas
+     * concurrentes si el modo group commit está activo (ver {@link CandidateGroupCommitter}).
+     * El INSERT se envía con saveAndFlush (con el generador TABLE, save lo dejaría para el commit) y el
+     * commit ocurre dentro del método, así una violación de integridad se informa como 422 y no como 500.
+     * Los duplicados se rechazan antes de insertar (ver {@link CandidateDuplicateDetector}).
      * @param request datos del candidato
      * @return candidato creado con información calculada
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CandidateResponse createCandidate(CreateCandidateRequest request) {
         try {
             log.info("Creating new candidate: {} {}", request.getFirstName(), request.getLastName());
 
-            validateCandidateData(request);
-
-            int calculatedAge = calculateAge(request.getBirthDate());
-
-            if (Math.abs(request.getAge() - calculatedAge) > 1) {
-                throw new BusinessException(
-                        String.format("La edad proporcionada (%d) no coincide con la fecha de nacimiento. Edad calculada: %d",
-                                request.getAge(), calculatedAge)
-                );
+            Candidate entity = toEntity(request);
+            if (duplicateDetector.isDuplicate(entity.getFirstName(), entity.getLastName(), entity.getBirthDate())) {
+                throw new DataIntegrityException(DUPLICATE_MESSAGE);
             }
 
-            Candidate entity = Candidate.builder()
-                    .firstName(request.getFirstName().trim())
-                    .lastName(request.getLastName().trim())
-                    .age(calculatedAge)
-                    .birthDate(request.getBirthDate())
-                    .build();
-
-            Candidate saved = repository.save(entity);
-            log.info("Candidate created successfully with ID: {}", saved.getId());
+            CandidateRow row = groupCommitter.isEnabled()
+                    ? groupCommitter.insert(entity)
+                    : transactionTemplate.execute(status -> {
+                        CandidateRow saved = toRow(repository.saveAndFlush(entity));
+                        eventPublisher.publishEvent(new CandidatesCreatedEvent(List.of(saved)));
+                        return saved;
+                    });
+            log.info("Candidate created successfully with ID: {}", row.getId());
 
-            return mapToResponse(saved);
+            return mapper.toResponse(row);
 
         } catch (DataIntegrityViolationException ex) {
             log.error("Data integrity violation while creating candidate", ex);
             throw new DataIntegrityException("No se pudo crear el candidato. Posible duplicación de datos.");
+        } catch (DataIntegrityException ex) {
+            log.warn("Duplicate candidate rejected: {}", ex.getMessage());
+            throw ex;
         } catch (BusinessException ex) {
             log.warn("Business validation failed: {}", ex.getMessage());
             throw ex;
+        } catch (ServiceUnavailableException ex) {
+            log.warn("Candidate create not confirmed in time: {}", ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
             log.error("Unexpected error while creating candidate", ex);
             throw new RuntimeException("Error inesperado al crear el candidato", ex);
@@ -79,29 +165,238 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     /**
-     * Obtiene todos los candidatos registrados en el sistema.
+     * Crea un candidato una sola vez por Idempotency-Key: un reintento con la misma clave y el mismo
+     * cuerpo recibe la respuesta original sin volver a insertar (ver {@link IdempotencyKeys}).
+     * @param request datos del candidato
+     * @param idempotencyKey clave enviada por el cliente (null para crear sin idempotencia)
+     * @return candidato creado, o el creado por la petición original
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CandidateResponse createCandidate(CreateCandidateRequest request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createCandidate(request);
+        }
+        return idempotencyKeys.execute("create", idempotencyKey, request, CandidateResponse.class,
+                () -> createCandidate(request));
+    }
+
+    /**
+     * Carga masiva una sola vez por Idempotency-Key, igual que {@link #createCandidate(CreateCandidateRequest, String)}.
+     * @param requests candidatos a crear
+     * @param idempotencyKey clave enviada por el cliente (null para crear sin idempotencia)
+     * @return resultado de la carga, o el de la petición original
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateResponse createCandidates(List<CreateCandidateRequest> requests, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createCandidates(requests);
+        }
+        return idempotencyKeys.execute("bulk", idempotencyKey, requests, BulkCreateResponse.class,
+                () -> createCandidates(requests));
+    }
+
+    /**
+     * Acepta un alta para la ingesta asíncrona: la valida, la guarda en el journal local y responde
+     * sin esperar a la base de datos. {@link com.seek.candidatosmanagementapi.service.CandidateJournalDrainer}
+     * la inserta después.
+     * @param request datos del candidato
+     * @return tracking ID del alta, en estado PENDING
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IngestionStatusResponse acceptCandidate(CreateCandidateRequest request) {
+        if (!journal.isEnabled()) {
+            throw new BusinessException("La ingesta asíncrona no está habilitada");
+        }
+
+        try {
+            String trackingId = journal.append(toEntity(request));
+            log.info("Candidate accepted for ingestion with tracking ID: {}", trackingId);
+
+            return IngestionStatusResponse.builder()
+                    .trackingId(trackingId)
+                    .status(IngestionStatusResponse.Status.PENDING)
+                    .build();
+
+        } catch (BusinessException ex) {
+            log.warn("Ingestion rejected: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Unexpected error while accepting candidate for ingestion", ex);
+            throw new RuntimeException("Error inesperado al aceptar el candidato", ex);
+        }
+    }
+
+    /**
+     * Obtiene el estado de un alta de la ingesta asíncrona.
+     * Se consulta primero el journal: un alta deja de estar pendiente recién después del commit
+     * que la registra, así nunca se informa como inexistente un alta ya aceptada.
+     * @param trackingId tracking ID devuelto al aceptar el alta
+     * @return estado del alta y, si se aplicó, el ID del candidato
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public IngestionStatusResponse getIngestionStatus(String trackingId) {
+        if (journal.isPending(trackingId)) {
+            return IngestionStatusResponse.builder()
+                    .trackingId(trackingId)
+                    .status(IngestionStatusResponse.Status.PENDING)
+                    .build();
+        }
+
+        CandidateIngestion ingestion = ingestionRepository.findById(trackingId)
+                .orElseThrow(() -> new NotFoundException("No existe un alta con tracking ID " + trackingId));
+
+        return IngestionStatusResponse.builder()
+                .trackingId(ingestion.getTrackingId())
+                .status(IngestionStatusResponse.Status.valueOf(ingestion.getStatus()))
+                .candidateId(ingestion.getCandidateId())
+                .error(ingestion.getError())
+                .build();
+    }
+
+    /**
+     * Crea varios candidatos con inserciones en lotes JDBC, normalmente en una sola transacción.
+     * Cada fila se valida por separado (mismas reglas que el alta individual): las válidas se
+     * insertan y las inválidas se informan con su motivo, sin cancelar la carga. Se rechazan también
+     * los candidatos que ya existen y los que se repiten dentro de la misma carga.
+     * Si la base rechaza la transacción por un duplicado que el filtro no conocía (creado en otra
+     * instancia o en paralelo), la carga se divide en mitades que se insertan cada una en su transacción,
+     * hasta aislar las filas duplicadas, que se informan como rechazadas. En ese caso la carga queda
+     * confirmada por partes: si falla a la mitad, las partes ya insertadas se mantienen.
+     * @param requests candidatos a crear
+     * @return resultado por fila, totales y filas insertadas por segundo
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateResponse createCandidates(List<CreateCandidateRequest> requests) {
+        try {
+            long start = System.nanoTime();
+            log.info("Creating {} candidates in bulk", requests.size());
+
+            List<BulkCreateResult> results = new ArrayList<>(requests.size());
+            List<BulkCreateResult> createdResults = new ArrayList<>();
+            List<Candidate> entities = new ArrayList<>();
+            Set<String> identities = new HashSet<>();
+
+            for (int i = 0; i < requests.size(); i++) {
+                try {
+                    Candidate entity = toEntity(validated(requests.get(i)));
+                    String identity = CandidateDuplicateDetector.identity(
+                            entity.getFirstName(), entity.getLastName(), entity.getBirthDate());
+                    if (!identities.add(identity) || duplicateDetector.isDuplicate(
+                            entity.getFirstName(), entity.getLastName(), entity.getBirthDate())) {
+                        throw new BusinessException(DUPLICATE_MESSAGE);
+                    }
+                    entities.add(entity);
+                    BulkCreateResult result = BulkCreateResult.builder()
+                            .index(i)
+                            .status(BulkCreateResult.Status.CREATED)
+                            .build();
+                    results.add(result);
+                    createdResults.add(result);
+                } catch (BusinessException ex) {
+                    results.add(BulkCreateResult.builder()
+                            .index(i)
+                            .status(BulkCreateResult.Status.REJECTED)
+                            .error(ex.getMessage())
+                            .build());
+                }
+            }
+
+            int created = entities.isEmpty() ? 0 : insertAll(entities, createdResults);
+
+            long elapsedNanos = System.nanoTime() - start;
+            double rowsPerSecond = elapsedNanos == 0 ? 0.0 : created * 1_000_000_000.0 / elapsedNanos;
+            log.info("Bulk create finished: {} created, {} rejected, {} rows/s",
+                    created, requests.size() - created, Math.round(rowsPerSecond));
+
+            return BulkCreateResponse.builder()
+                    .requested(requests.size())
+                    .created(created)
+                    .rejected(requests.size() - created)
+                    .elapsedMillis(elapsedNanos / 1_000_000)
+                    .rowsPerSecond(rowsPerSecond)
+                    .results(results)
+                    .build();
+
+        } catch (Exception ex) {
+            log.error("Unexpected error while creating candidates in bulk", ex);
+            throw new RuntimeException("Error inesperado en la carga masiva de candidatos", ex);
+        }
+    }
+
+    /**
+     * Inserta las filas válidas en una transacción; si la base la rechaza por integridad, divide las
+     * filas en dos mitades y las inserta por separado, así un duplicado solo cuesta unas pocas
+     * transacciones más (del orden de log2 del tamaño por duplicado) y el resto sigue en lotes.
+     * Las filas que fallan solas se marcan como rechazadas.
+     * @param entities candidatos validados
+     * @param results resultado de cada candidato, en el mismo orden
+     * @return cantidad de candidatos insertados
+     */
+    private int insertAll(List<Candidate> entities, List<BulkCreateResult> results) {
+        try {
+            List<CandidateRow> rows = batchWriter.insertAll(entities);
+            for (int i = 0; i < rows.size(); i++) {
+                results.get(i).setId(rows.get(i).getId());
+            }
+            return rows.size();
+        } catch (DataIntegrityViolationException ex) {
+            if (entities.size() == 1) {
+                rejectDuplicate(results.get(0), ex);
+                return 0;
+            }
+            log.warn("Bulk batch of {} candidates failed, splitting it: {}", entities.size(), ex.getMessage());
+            // La transacción revertida dejó asignados IDs que no llegaron a la base
+            entities.forEach(entity -> entity.setId(null));
+            int half = entities.size() / 2;
+            return insertAll(entities.subList(0, half), results.subList(0, half))
+                    + insertAll(entities.subList(half, entities.size()), results.subList(half, results.size()));
+        }
+    }
+
+    private static void rejectDuplicate(BulkCreateResult result, DataIntegrityViolationException ex) {
+        log.warn("Bulk row {} rejected by the database: {}", result.getIndex(), ex.getMessage());
+        result.setStatus(BulkCreateResult.Status.REJECTED);
+        result.setError(DUPLICATE_MESSAGE);
+    }
+
+    /**
+     * Obtiene los candidatos registrados que cumplen los filtros, en el orden pedido.
+     * Los filtros se resuelven en la base de datos; solo viajan las filas que coinciden.
+     * Los listados grandes se mapean en paralelo si el modo está activo (ver {@link ParallelCandidateMapper}).
+     * @param filter filtros opcionales de edad, fecha de nacimiento y apellido
+     * @param sort ordenamiento {@code campo[,asc|desc]} (por defecto ID ascendente)
+     * @param fields campos a incluir separados por coma (null para todos); solo se leen y calculan esos
      * @return lista de candidatos con datos calculados
      */
     @Override
     @Transactional(readOnly = true)
-    public List<CandidateResponse> getAllCandidates() {
+    public List<CandidateResponse> getAllCandidates(CandidateFilter filter, String sort, String fields) {
         try {
-            log.info("Retrieving all candidates");
+            CandidateSort candidateSort = CandidateSort.parse(sort);
+            Set<CandidateField> candidateFields = CandidateField.parse(fields);
+            validateFilter(filter);
+            log.info("Retrieving candidates with filter {} sorted by {}", filter, candidateSort);
 
-            List<Candidate> candidates = repository.findAll();
+            List<CandidateRow> candidates = repository.search(filter, candidateSort, null, null, candidateFields);
 
             if (candidates.isEmpty()) {
                 log.info("No candidates found in database");
                 return List.of();
             }
 
-            List<CandidateResponse> responses = candidates.stream()
-                    .map(this::mapToResponse)
-                    .collect(Collectors.toList());
+            List<CandidateResponse> responses = parallelMapper.mapAll(candidates, mapper.today(), candidateFields);
 
             log.info("Retrieved {} candidates successfully", responses.size());
             return responses;
 
+        } catch (BadRequestException ex) {
+            log.warn("Invalid candidate list request: {}", ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
             log.error("Error retrieving candidates", ex);
             throw new RuntimeException("Error al obtener la lista de candidatos", ex);
@@ -109,41 +404,142 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     /**
-     * Calcula métricas estadísticas de edad de todos los candidatos.
-     * @return promedio y desviación estándar de edades
+     * Obtiene una página de candidatos usando paginación por keyset sobre (campo de orden, ID).
+     * Se consulta un registro extra para saber si existe una página siguiente sin hacer COUNT.
+     * @param filter filtros opcionales de edad, fecha de nacimiento y apellido
+     * @param sort ordenamiento {@code campo[,asc|desc]} (por defecto ID ascendente)
+     * @param fields campos a incluir separados por coma (null para todos)
+     * @param after cursor opaco devuelto por la página anterior (null para la primera)
+     * @param limit cantidad máxima de candidatos por página
+     * @return página de candidatos y cursor de la siguiente
      */
     @Override
     @Transactional(readOnly = true)
-    public MetricsResponse getMetrics() {
+    public CandidatePageResponse getCandidatesPage(CandidateFilter filter, String sort, String fields,
+                                                   String after, int limit) {
         try {
-            log.info("Calculating candidate metrics");
+            CandidateSort candidateSort = CandidateSort.parse(sort);
+            Set<CandidateField> candidateFields = CandidateField.parse(fields);
+            validateFilter(filter);
+            CandidateRow last = after == null || after.isBlank() ? null : CandidateCursor.decode(after, candidateSort);
+            log.info("Retrieving candidates page after ID {} with limit {} sorted by {}",
+                    last == null ? null : last.getId(), limit, candidateSort);
 
-            List<Candidate> candidates = repository.findAll();
+            List<CandidateRow> candidates = repository.search(filter, candidateSort, last, limit + 1, candidateFields);
 
-            if (candidates.isEmpty()) {
-                log.warn("No candidates found for metrics calculation");
-                throw new BusinessException("No hay candidatos registrados para calcular métricas");
-            }
+            boolean hasNext = candidates.size() > limit;
+            List<CandidateRow> page = hasNext ? candidates.subList(0, limit) : candidates;
 
-            List<Integer> ages = candidates.stream()
-                    .map(Candidate::getAge)
+            BirthdayCalendar calendar = mapper.today();
+            List<CandidateResponse> items = page.stream()
+                    .map(row -> mapper.toResponse(row, calendar, candidateFields))
                     .collect(Collectors.toList());
 
-            double average = ages.stream()
-                    .mapToInt(Integer::intValue)
-                    .average()
-                    .orElse(0.0);
+            String nextCursor = hasNext ? CandidateCursor.encode(candidateSort, page.get(page.size() - 1)) : null;
 
-            double stdDeviation = calculateStandardDeviation(ages, average);
-
-            MetricsResponse response = MetricsResponse.builder()
-                    .averageAge(average)
-                    .ageStdDeviation(stdDeviation)
+            log.info("Retrieved page of {} candidates, hasNext: {}", items.size(), hasNext);
+            return CandidatePageResponse.builder()
+                    .items(items)
+                    .nextCursor(nextCursor)
                     .build();
 
-            log.info("Metrics calculated successfully. Average: {}, StdDev: {}", average, stdDeviation);
-            return response;
+        } catch (BadRequestException ex) {
+            log.warn("Invalid pagination request: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Error retrieving candidates page", ex);
+            throw new RuntimeException("Error al obtener la página de candidatos", ex);
+        }
+    }
+
+    /**
+     * Obtiene los {@code n} candidatos de mayor o menor edad.
+     * La edad se ordena por fecha de nacimiento (más antigua = mayor), así la consulta recorre
+     * el índice de "birth_date" desde un extremo y se detiene a los {@code n} registros.
+     * @param by {@code age} (por defecto) o {@code birthDate}
+     * @param order {@code desc} (por defecto) o {@code asc}; con {@code age,desc} se obtienen los mayores
+     * @param n cantidad de candidatos
+     * @return candidatos en el orden pedido, con ID como desempate
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CandidateResponse> getTopCandidates(String by, String order, int n) {
+        try {
+            CandidateSort sort = parseTopSort(by, order);
+            log.info("Retrieving top {} candidates sorted by {}", n, sort);
+
+            List<CandidateRow> rows = repository.search(null, sort, null, n, CandidateField.ALL);
+
+            BirthdayCalendar calendar = mapper.today();
+            return rows.stream()
+                    .map(row -> mapper.toResponse(row, calendar))
+                    .collect(Collectors.toList());
+
+        } catch (BadRequestException ex) {
+            log.warn("Invalid top candidates request: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Error retrieving top candidates", ex);
+            throw new RuntimeException("Error al obtener el top de candidatos", ex);
+        }
+    }
+
+    /**
+     * Recorre todos los candidatos y entrega cada uno ya mapeado apenas se lee de la base de datos.
+     * Las filas llegan como proyección, sin entidades administradas que acumular en el contexto
+     * de persistencia, así el uso de memoria no depende del tamaño de la tabla.
+     * @param consumer receptor de cada candidato mapeado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCandidates(Consumer<CandidateResponse> consumer) {
+        try (Stream<CandidateRow> candidates = repository.streamAllRows()) {
+            log.info("Streaming all candidates");
+
+            BirthdayCalendar calendar = mapper.today();
+            long[] count = {0};
+            candidates.forEach(candidate -> {
+                consumer.accept(mapper.toResponse(candidate, calendar));
+                count[0]++;
+            });
+
+            log.info("Streamed {} candidates successfully", count[0]);
 
+        } catch (Exception ex) {
+            log.error("Error streaming candidates", ex);
+            throw new RuntimeException("Error al transmitir la lista de candidatos", ex);
+        }
+    }
+
+    /**
+     * Calcula métricas estadísticas de edad de todos los candidatos.
+     * Las edades se calculan a la fecha del día desde la fecha de nacimiento, no desde la columna "age"
+     * fijada al crear. En modo exacto recorre las fechas en memoria de {@link CandidateBirthDates}
+     * (las altas de otras instancias se incorporan con su sincronización periódica). En modo aproximado
+     * estima sobre una muestra aleatoria e informa los intervalos de confianza (ver {@link ApproximateAgeMetrics}).
+     * El resultado pasa por {@link MetricsCache}: las peticiones simultáneas comparten un solo cálculo
+     * y se reutiliza hasta que vence el TTL o se crea un candidato. Sin transacción propia, así un
+     * acierto en la cache no toma una conexión del pool.
+     * @param mode {@code exact} (por defecto) o {@code approximate}
+     * @param confidence nivel de confianza del modo aproximado: 0.80, 0.90, 0.95 (por defecto) o 0.99
+     * @return promedio y desviación estándar de edades
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MetricsResponse getMetrics(String mode, Double confidence) {
+        try {
+            boolean approximate = parseMetricsMode(mode);
+            double level = confidence == null ? DEFAULT_CONFIDENCE : confidence;
+            if (approximate && !CONFIDENCE_LEVELS.contains(level)) {
+                throw new BadRequestException("La confianza debe ser 0.80, 0.90, 0.95 o 0.99");
+            }
+
+            String key = approximate ? "approximate:" + level : "exact";
+            return metricsCache.get(key, () -> calculateMetrics(approximate, level));
+
+        } catch (BadRequestException ex) {
+            log.warn("Invalid metrics request: {}", ex.getMessage());
+            throw ex;
         } catch (BusinessException ex) {
             log.warn("Business validation failed for metrics: {}", ex.getMessage());
             throw ex;
@@ -153,6 +549,207 @@ public class CandidateServiceImpl implements CandidateService {
         }
     }
 
+    /**
+     * Calcula la distribución de edades cumplidas a la fecha del día desde las cantidades por edad
+     * que {@link CandidateBirthDates} mantiene para el día (151 celdas), sin consultar la base de datos
+     * ni recorrer las fechas salvo en la primera consulta del día o después de una recarga.
+     * Los percentiles usan el método de rango más cercano: la menor edad cuya frecuencia
+     * acumulada alcanza {@code ceil(p/100 * total)} candidatos.
+     * @return histograma, percentiles, moda, mínimo y máximo
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AgeDistributionResponse getAgeDistribution() {
+        log.info("Calculating candidate age distribution");
+
+        long[] counts = birthDates.ageCounts(mapper.today().asOf());
+        long total = 0;
+        int minAge = -1;
+        int maxAge = -1;
+        int modeAge = -1;
+        List<AgeCount> histogram = new ArrayList<>();
+
+        for (int age = 0; age < counts.length; age++) {
+            if (counts[age] == 0) {
+                continue;
+            }
+            total += counts[age];
+            if (minAge < 0) {
+                minAge = age;
+            }
+            maxAge = age;
+            if (modeAge < 0 || counts[age] > counts[modeAge]) {
+                modeAge = age;
+            }
+            histogram.add(new AgeCount(age, counts[age]));
+        }
+
+        if (total == 0) {
+            log.warn("No candidates found for age distribution");
+            throw new BusinessException("No hay candidatos registrados para calcular métricas");
+        }
+
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        for (int percentile : DISTRIBUTION_PERCENTILES) {
+            percentiles.put("p" + percentile, percentile(counts, total, percentile));
+        }
+
+        log.info("Age distribution calculated for {} candidates", total);
+        return AgeDistributionResponse.builder()
+                .total(total)
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .modeAge(modeAge)
+                .percentiles(percentiles)
+                .histogram(histogram)
+                .build();
+    }
+
+    /**
+     * Obtiene cantidad y edad promedio por cohorte de nacimiento.
+     * Lee solo "candidate_cohort_stats" (una fila por año de nacimiento); las décadas se arman
+     * sumando los años de cada una. A diferencia de {@link #getMetrics} y {@link #getAgeDistribution},
+     * la edad promedio usa la edad registrada al crear cada candidato (la columna "age"), no la
+     * cumplida a la fecha del día: dentro de una cohorte crece un año por año transcurrido.
+     * @param granularity {@code decade} (por defecto) o {@code year}
+     * @return cohortes con al menos un candidato, en orden ascendente
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CohortStatsResponse> getCohortMetrics(String granularity) {
+        try {
+            CohortGranularity cohortGranularity = CohortGranularity.parse(granularity);
+            log.info("Calculating cohort metrics by {}", cohortGranularity.getValue());
+
+            Map<Integer, long[]> byCohort = new TreeMap<>();
+            for (CandidateCohortStats stats : cohortStatsRepository.findAllByOrderByBirthYearAsc()) {
+                if (stats.getCandidateCount() == 0) {
+                    continue;
+                }
+                long[] totals = byCohort.computeIfAbsent(cohortGranularity.cohortOf(stats.getBirthYear()), c -> new long[2]);
+                totals[0] += stats.getCandidateCount();
+                totals[1] += stats.getAgeSum();
+            }
+
+            List<CohortStatsResponse> cohorts = new ArrayList<>(byCohort.size());
+            byCohort.forEach((cohort, totals) -> cohorts.add(CohortStatsResponse.builder()
+                    .cohort(cohort)
+                    .candidateCount(totals[0])
+                    .averageAge((double) totals[1] / totals[0])
+                    .build()));
+
+            log.info("Calculated metrics for {} cohorts", cohorts.size());
+            return cohorts;
+
+        } catch (BadRequestException ex) {
+            log.warn("Invalid cohort metrics request: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Error calculating cohort metrics", ex);
+            throw new RuntimeException("Error al calcular las métricas por cohorte", ex);
+        }
+    }
+
+    /**
+     * Obtiene el historial de métricas de edad tomado por la tarea programada.
+     * @param from inicio del rango (por defecto, 24 horas antes de {@code to})
+     * @param to fin del rango (por defecto, ahora)
+     * @param step intervalo ISO-8601 (ej. PT1H) para quedarse con una foto por intervalo, o null
+     * @return fotos del rango, de la más antigua a la más reciente
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MetricsHistoryPoint> getMetricsHistory(Instant from, Instant to, String step) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("La fecha from no puede ser posterior a to");
+        }
+
+        Duration interval = null;
+        if (step != null && !step.isBlank()) {
+            try {
+                interval = Duration.parse(step.trim());
+            } catch (DateTimeParseException ex) {
+                throw new BadRequestException("El step debe ser una duración ISO-8601, por ejemplo PT1H", ex);
+            }
+            if (interval.isNegative() || interval.isZero()) {
+                throw new BadRequestException("El step debe ser mayor que cero");
+            }
+        }
+
+        log.info("Retrieving metrics history from {} to {} with step {}", from, to, interval);
+        return metricsHistory.range(from, to, interval);
+    }
+
+    /**
+     * Calcula las métricas en el modo indicado; lo invoca {@link MetricsCache} ante un fallo de cache.
+     * En modo exacto la cantidad sale de las mismas fechas en memoria que el promedio, sin consultar la
+     * base; el resumen "candidate_age_stats" solo aporta el total de la tabla al modo aproximado.
+     */
+    private MetricsResponse calculateMetrics(boolean approximate, double level) {
+        log.info("Calculating candidate metrics ({})", approximate ? "approximate" : "exact");
+
+        AgeStats stats = approximate ? ageStatsRepository.sumSlots() : birthDates.ageStats(mapper.today().asOf());
+
+        if (stats == null || stats.getCount() == null || stats.getCount() == 0) {
+            log.warn("No candidates found for metrics calculation");
+            throw new BusinessException("No hay candidatos registrados para calcular métricas");
+        }
+
+        MetricsResponse response = approximate
+                ? approximateMetrics.estimate(stats.getCount(), level)
+                : MetricsResponse.builder()
+                        .averageAge(stats.average())
+                        .ageStdDeviation(stats.populationStdDeviation())
+                        .build();
+
+        log.info("Metrics calculated successfully. Average: {}, StdDev: {}",
+                response.getAverageAge(), response.getAgeStdDeviation());
+        return response;
+    }
+
+    /**
+     * Valida la solicitud y arma la entidad a insertar, con la edad calculada desde la fecha de nacimiento.
+     * @throws BusinessException si no cumple las reglas de negocio
+     */
+    private Candidate toEntity(CreateCandidateRequest request) {
+        validateCandidateData(request);
+
+        int calculatedAge = calculateAge(request.getBirthDate());
+
+        if (Math.abs(request.getAge() - calculatedAge) > 1) {
+            throw new BusinessException(
+                    String.format("La edad proporcionada (%d) no coincide con la fecha de nacimiento. Edad calculada: %d",
+                            request.getAge(), calculatedAge)
+            );
+        }
+
+        return Candidate.builder()
+                .firstName(request.getFirstName().trim())
+                .lastName(request.getLastName().trim())
+                .age(calculatedAge)
+                .birthDate(request.getBirthDate())
+                .build();
+    }
+
+    /**
+     * Aplica las validaciones declaradas en {@link CreateCandidateRequest}, que en el alta individual
+     * resuelve el controlador con {@code @Valid}.
+     * @throws BusinessException con los mensajes de las validaciones que fallan
+     */
+    private CreateCandidateRequest validated(CreateCandidateRequest request) {
+        if (request == null) {
+            throw new BusinessException("El candidato es obligatorio");
+        }
+        Set<ConstraintViolation<CreateCandidateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BusinessException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
     /**
      * Valida que los datos del candidato cumplan las reglas de negocio.
      */
@@ -171,60 +768,83 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     /**
-     * Calcula la edad actual desde la fecha de nacimiento.
+     * Valida que los rangos de los filtros sean coherentes.
      */
-    private int calculateAge(LocalDate birthDate) {
-        return Period.between(birthDate, LocalDate.now()).getYears();
+    private void validateFilter(CandidateFilter filter) {
+        if (filter == null) {
+            return;
+        }
+
+        if (filter.getMinAge() != null && filter.getMaxAge() != null && filter.getMinAge() > filter.getMaxAge()) {
+            throw new BadRequestException("La edad mínima no puede ser mayor que la edad máxima");
+        }
+
+        if (filter.getBornAfter() != null && filter.getBornBefore() != null
+                && filter.getBornAfter().isAfter(filter.getBornBefore())) {
+            throw new BadRequestException("La fecha bornAfter no puede ser posterior a bornBefore");
+        }
     }
 
     /**
-     * Calcula la desviación estándar de una lista de edades.
+     * Interpreta el parámetro {@code mode} de las métricas; null o vacío equivale a exacto.
+     * @return true si se pidió el modo aproximado
      */
-    private double calculateStandardDeviation(List<Integer> ages, double average) {
-        if (ages.size() <= 1) {
-            return 0.0;
+    private boolean parseMetricsMode(String mode) {
+        if (mode == null || mode.isBlank() || mode.trim().equalsIgnoreCase("exact")) {
+            return false;
         }
+        if (mode.trim().equalsIgnoreCase("approximate")) {
+            return true;
+        }
+        throw new BadRequestException("El modo de métricas debe ser exact o approximate");
+    }
 
-        double variance = ages.stream()
-                .mapToDouble(age -> Math.pow(age - average, 2))
-                .average()
-                .orElse(0.0);
+    /**
+     * Convierte {@code by} y {@code order} del top en un orden por fecha de nacimiento:
+     * mayor edad equivale a fecha de nacimiento más antigua.
+     */
+    private CandidateSort parseTopSort(String by, String order) {
+        String direction = order == null || order.isBlank() ? "desc" : order.trim().toLowerCase(Locale.ROOT);
+        if (!direction.equals("asc") && !direction.equals("desc")) {
+            throw new BadRequestException("El orden del top debe ser asc o desc");
+        }
+        boolean ascending = direction.equals("asc");
 
-        return Math.sqrt(variance);
+        if (by == null || by.isBlank() || by.trim().equals("age")) {
+            return new CandidateSort(CandidateSort.Field.BIRTH_DATE, !ascending);
+        }
+        if (by.trim().equals("birthDate")) {
+            return new CandidateSort(CandidateSort.Field.BIRTH_DATE, ascending);
+        }
+        throw new BadRequestException("El top solo se puede calcular por age o birthDate");
     }
 
     /**
-     * Convierte entidad Candidate a DTO CandidateResponse con cálculos adicionales.
-     * Calcula próximo cumpleaños, días restantes, edad en meses y fecha estimada.
+     * Calcula la edad actual desde la fecha de nacimiento.
      */
-    private CandidateResponse mapToResponse(Candidate c) {
-        try {
-            LocalDate today = LocalDate.now();
-            LocalDate estimatedEventDate = c.getBirthDate().plusYears(75);
+    private int calculateAge(LocalDate birthDate) {
+        return Period.between(birthDate, LocalDate.now()).getYears();
+    }
 
-            LocalDate nextBirthday = c.getBirthDate().withYear(today.getYear());
-            if (nextBirthday.isBefore(today) || nextBirthday.isEqual(today)) {
-                nextBirthday = nextBirthday.plusYears(1);
+    /**
+     * Menor edad cuya frecuencia acumulada alcanza el rango del percentil.
+     */
+    private int percentile(long[] counts, long total, int percentile) {
+        long rank = Math.max(1, (total * percentile + 99) / 100);
+        long cumulative = 0;
+        for (int age = 0; age < counts.length; age++) {
+            cumulative += counts[age];
+            if (cumulative >= rank) {
+                return age;
             }
-
-            long daysToNextBirthday = ChronoUnit.DAYS.between(today, nextBirthday);
-            long ageInMonths = ChronoUnit.MONTHS.between(c.getBirthDate(), today);
-
-            return CandidateResponse.builder()
-                    .id(c.getId())
-                    .firstName(c.getFirstName())
-                    .lastName(c.getLastName())
-                    .age(c.getAge())
-                    .birthDate(c.getBirthDate())
-                    .estimatedEventDate(estimatedEventDate)
-                    .nextBirthday(nextBirthday)
-                    .daysToNextBirthday(daysToNextBirthday)
-                    .ageInMonths(ageInMonths)
-                    .build();
-
-        } catch (Exception ex) {
-            log.error("Error mapping candidate to response: {}", ex.getMessage());
-            throw new RuntimeException("Error al procesar los datos del candidato", ex);
         }
+        return counts.length - 1;
+    }
+
+    /**
+     * Convierte la entidad recién guardada en la misma proyección que usa la ruta de lectura.
+     */
+    private CandidateRow toRow(Candidate c) {
+        return new CandidateRow(c.getId(), c.getFirstName(), c.getLastName(), c.getAge(), c.getBirthDate());
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+-- Tabla base de candidatos. IF NOT EXISTS permite aplicar la migración sobre esquemas
+-- creados previamente por Hibernate (baseline-on-migrate con baseline-version=0).
+CREATE TABLE IF NOT EXISTS candidates (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    age        INT          NOT NULL,
+    birth_date DATE         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
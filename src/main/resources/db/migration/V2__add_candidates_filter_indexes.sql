@@ -0,0 +1,6 @@
+-- Índices que respaldan los filtros y ordenamientos de GET /api/v1/candidatos.
+-- InnoDB agrega la clave primaria a cada índice secundario, por lo que (campo, id)
+-- también cubre el desempate por ID de la paginación por cursor.
+CREATE INDEX idx_candidates_birth_date ON candidates (birth_date);
+CREATE INDEX idx_candidates_age ON candidates (age);
+CREATE INDEX idx_candidates_last_name ON candidates (last_name);
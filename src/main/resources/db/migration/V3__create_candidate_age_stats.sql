@@ -0,0 +1,19 @@
+-- Agregados de edad mantenidos en cada alta para que GET /metrics no recorra la tabla.
+-- Se reparten en 16 filas (slots): cada transacción suma sobre un slot al azar, así las
+-- altas concurrentes no se serializan sobre el bloqueo de una única fila.
+-- Las métricas son la suma de todos los slots.
+CREATE TABLE IF NOT EXISTS candidate_age_stats (
+    slot            INT    NOT NULL,
+    candidate_count BIGINT NOT NULL DEFAULT 0,
+    age_sum         BIGINT NOT NULL DEFAULT 0,
+    age_sum_squares BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (slot)
+) ENGINE = InnoDB;
+
+-- El slot 0 arranca con los candidatos ya existentes.
+INSERT INTO candidate_age_stats (slot, candidate_count, age_sum, age_sum_squares)
+SELECT 0, COUNT(*), COALESCE(SUM(age), 0), COALESCE(SUM(CAST(age AS SIGNED) * age), 0)
+FROM candidates;
+
+INSERT INTO candidate_age_stats (slot)
+VALUES (1), (2), (3), (4), (5), (6), (7), (8), (9), (10), (11), (12), (13), (14), (15);
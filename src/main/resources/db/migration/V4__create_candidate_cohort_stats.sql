@@ -0,0 +1,14 @@
+-- Cantidad y suma de edades por año de nacimiento, mantenidas en cada alta para que
+-- GET /metrics/cohorts lea solo estas filas (una por año) en lugar de agrupar "candidates".
+-- Las décadas se obtienen sumando los años de cada una.
+CREATE TABLE IF NOT EXISTS candidate_cohort_stats (
+    birth_year      INT    NOT NULL,
+    candidate_count BIGINT NOT NULL DEFAULT 0,
+    age_sum         BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (birth_year)
+) ENGINE = InnoDB;
+
+INSERT INTO candidate_cohort_stats (birth_year, candidate_count, age_sum)
+SELECT YEAR(birth_date), COUNT(*), SUM(age)
+FROM candidates
+GROUP BY YEAR(birth_date);
@@ -0,0 +1,13 @@
+-- Fotos periódicas de las métricas de edad para GET /metrics/history.
+-- Las más recientes también se guardan en memoria; esta tabla cubre los rangos más antiguos
+-- y permite recargar la memoria al reiniciar.
+CREATE TABLE IF NOT EXISTS candidate_metrics_history (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    captured_at       DATETIME(6) NOT NULL,
+    candidate_count   BIGINT      NOT NULL,
+    average_age       DOUBLE      NOT NULL,
+    age_std_deviation DOUBLE      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_candidate_metrics_history_captured_at ON candidate_metrics_history (captured_at);
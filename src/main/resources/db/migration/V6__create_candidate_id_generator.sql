@@ -0,0 +1,14 @@
+-- Generador de IDs por tabla para "candidates" (optimizador "pooled" de Hibernate).
+-- Reemplaza a AUTO_INCREMENT como fuente de IDs para que las inserciones se puedan agrupar
+-- en lotes JDBC. next_val es el último ID del próximo bloque a reservar: cada instancia toma
+-- bloques de 100 IDs (Candidate.ID_ALLOCATION_SIZE) y usa [next_val - 99, next_val].
+CREATE TABLE IF NOT EXISTS candidate_id_generator (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+-- El primer bloque empieza después del mayor ID existente.
+INSERT INTO candidate_id_generator (sequence_name, next_val)
+SELECT 'candidates', COALESCE(MAX(id), 0) + 100
+FROM candidates;
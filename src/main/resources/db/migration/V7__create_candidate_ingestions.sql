@@ -0,0 +1,12 @@
+-- Altas recibidas por la ingesta asíncrona (journal local) que ya se aplicaron.
+-- El drainer inserta la fila en la misma transacción que el candidato: al reprocesar el journal
+-- después de una caída, las entradas con fila se saltean y cada alta se aplica exactamente una vez.
+-- Las que fallan en forma definitiva quedan con estado FAILED y el motivo.
+CREATE TABLE IF NOT EXISTS candidate_ingestions (
+    tracking_id  CHAR(36)     NOT NULL,
+    status       VARCHAR(16)  NOT NULL,
+    candidate_id BIGINT       NULL,
+    error        VARCHAR(255) NULL,
+    applied_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (tracking_id)
+) ENGINE = InnoDB;
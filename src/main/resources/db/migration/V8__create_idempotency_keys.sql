@@ -0,0 +1,13 @@
+-- Idempotency-Key recibidas en las altas (individual y masiva), con la huella del cuerpo y la respuesta.
+-- La fila se reserva antes de crear (response NULL = en proceso) y se completa con la respuesta en JSON;
+-- un reintento con la misma clave y el mismo cuerpo recibe esa respuesta sin volver a insertar.
+-- Las filas vencidas (expires_at) se purgan periódicamente.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(300) NOT NULL,
+    request_hash    CHAR(64)     NOT NULL,
+    response        MEDIUMTEXT   NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+) ENGINE = InnoDB;
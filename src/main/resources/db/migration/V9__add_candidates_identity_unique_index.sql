@@ -0,0 +1,9 @@
+-- Un candidato se identifica por nombre, apellido y fecha de nacimiento normalizados
+-- (sin espacios al inicio o al final y en minúsculas). El índice funcional (MySQL 8.0.13+) impide
+-- duplicados aunque lleguen por instancias o caminos de alta distintos; con la intercalación por
+-- defecto (utf8mb4_0900_ai_ci) tampoco distingue acentos.
+-- Si la tabla ya tiene duplicados, la migración falla y deben resolverse antes de aplicarla:
+--   SELECT LOWER(TRIM(first_name)), LOWER(TRIM(last_name)), birth_date, COUNT(*)
+--   FROM candidates GROUP BY 1, 2, 3 HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX ux_candidates_identity
+    ON candidates ((LOWER(TRIM(first_name))), (LOWER(TRIM(last_name))), birth_date);
@@ -1,35 +1,67 @@
 package com.seek.candidatosmanagementapi.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.seek.candidatosmanagementapi.config.JacksonBinaryFormatsConfig;
+import com.seek.candidatosmanagementapi.dto.AgeCount;
+import com.seek.candidatosmanagementapi.dto.AgeDistributionResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResult;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidatePageResponse;
 import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CohortStatsResponse;
 import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
 import com.seek.candidatosmanagementapi.dto.MetricsResponse;
 import com.seek.candidatosmanagementapi.exception.BusinessException;
 import com.seek.candidatosmanagementapi.exception.DataIntegrityException;
+import com.seek.candidatosmanagementapi.exception.NotFoundException;
+import com.seek.candidatosmanagementapi.exception.ServiceUnavailableException;
+import com.seek.candidatosmanagementapi.service.CandidateListSnapshot;
 import com.seek.candidatosmanagementapi.service.CandidateService;
+import com.seek.candidatosmanagementapi.service.CandidateTableVersion;
+import com.seek.candidatosmanagementapi.service.MetricsStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CandidateController.class)
+@Import(JacksonBinaryFormatsConfig.class)
 @DisplayName("CandidateController Tests")
 class CandidateControllerTest {
 
@@ -39,6 +71,15 @@ class CandidateControllerTest {
     @MockitoBean
     private CandidateService candidateService;
 
+    @MockitoBean
+    private CandidateTableVersion tableVersion;
+
+    @MockitoBean
+    private CandidateListSnapshot listSnapshot;
+
+    @MockitoBean
+    private MetricsStream metricsStream;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,6 +88,8 @@ class CandidateControllerTest {
 
     @BeforeEach
     void setUp() {
+        when(tableVersion.currentETag("json")).thenReturn("\"v1\"");
+
         LocalDate birthDate = LocalDate.of(1990, 5, 15);
         int calculatedAge = Period.between(birthDate, LocalDate.now()).getYears();
 
@@ -74,7 +117,7 @@ class CandidateControllerTest {
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should create candidate successfully with authentication")
     void shouldCreateCandidateSuccessfully() throws Exception {
-        when(candidateService.createCandidate(any(CreateCandidateRequest.class)))
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), any()))
                 .thenReturn(candidateResponse);
 
         mockMvc.perform(post("/api/v1/candidatos")
@@ -89,6 +132,22 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$.age").value(35));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should pass the Idempotency-Key header to the service")
+    void shouldPassIdempotencyKey() throws Exception {
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), eq("retry-42")))
+                .thenReturn(candidateResponse);
+
+        mockMvc.perform(post("/api/v1/candidatos")
+                        .with(csrf())
+                        .header("Idempotency-Key", "retry-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
 
     @Test
     @WithMockUser(username = "admin", roles = {"USER"})
@@ -115,7 +174,7 @@ class CandidateControllerTest {
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should return 409 when business exception occurs")
     void shouldReturn409WhenBusinessException() throws Exception {
-        when(candidateService.createCandidate(any(CreateCandidateRequest.class)))
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), any()))
                 .thenThrow(new BusinessException("La edad no coincide con la fecha de nacimiento"));
 
         mockMvc.perform(post("/api/v1/candidatos")
@@ -128,11 +187,29 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$.message").value("La edad no coincide con la fecha de nacimiento"));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return 503 with Retry-After when the create is not confirmed in time")
+    void shouldReturn503WhenServiceUnavailable() throws Exception {
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), any()))
+                .thenThrow(new ServiceUnavailableException("El alta no se pudo procesar a tiempo. Reintente más tarde",
+                        Duration.ofSeconds(5)));
+
+        mockMvc.perform(post("/api/v1/candidatos")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should return 422 when data integrity exception occurs")
     void shouldReturn422WhenDataIntegrityException() throws Exception {
-        when(candidateService.createCandidate(any(CreateCandidateRequest.class)))
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), any()))
                 .thenThrow(new DataIntegrityException("Violación de integridad de datos"));
 
         mockMvc.perform(post("/api/v1/candidatos")
@@ -148,7 +225,7 @@ class CandidateControllerTest {
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should return 500 when unexpected exception occurs")
     void shouldReturn500WhenUnexpectedException() throws Exception {
-        when(candidateService.createCandidate(any(CreateCandidateRequest.class)))
+        when(candidateService.createCandidate(any(CreateCandidateRequest.class), any()))
                 .thenThrow(new RuntimeException("Error inesperado"));
 
         mockMvc.perform(post("/api/v1/candidatos")
@@ -165,7 +242,7 @@ class CandidateControllerTest {
     @DisplayName("Should get all candidates successfully")
     void shouldGetAllCandidatesSuccessfully() throws Exception {
         List<CandidateResponse> candidates = Arrays.asList(candidateResponse);
-        when(candidateService.getAllCandidates()).thenReturn(candidates);
+        when(candidateService.getAllCandidates(any(), any(), any())).thenReturn(candidates);
 
         mockMvc.perform(get("/api/v1/candidatos"))
                 .andExpect(status().isOk())
@@ -175,11 +252,100 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$[0].firstName").value("Juan"));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return ETag and 304 when If-None-Match is current")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        when(candidateService.getAllCandidates(any(), any(), any())).thenReturn(List.of(candidateResponse));
+
+        mockMvc.perform(get("/api/v1/candidatos"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""));
+
+        mockMvc.perform(get("/api/v1/candidatos/metrics").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should not query the service when list ETag matches")
+    void shouldNotQueryServiceWhenListETagMatches() throws Exception {
+        mockMvc.perform(get("/api/v1/candidatos").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should serve full list from pre-serialized snapshot when enabled")
+    void shouldServeFullListFromSnapshot() throws Exception {
+        when(listSnapshot.canServe(any(), any(), any())).thenReturn(true);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("[{\"id\":7}]".getBytes());
+            return null;
+        }).when(listSnapshot).writeTo(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/candidatos"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(7));
+
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should serve list as Smile without using the JSON snapshot")
+    void shouldServeListAsSmile() throws Exception {
+        when(tableVersion.currentETag("smile")).thenReturn("\"v1-smile\"");
+        when(listSnapshot.canServe(any(), any(), any())).thenReturn(true);
+        when(candidateService.getAllCandidates(any(), any(), any())).thenReturn(List.of(candidateResponse));
+
+        byte[] body = mockMvc.perform(get("/api/v1/candidatos").accept(JacksonBinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(JacksonBinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(header().string("ETag", "\"v1-smile\""))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode candidates = new SmileMapper().readTree(body);
+        assertThat(candidates.get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(candidates.get(0).get("birthDate").asText()).isEqualTo("1990-05-15");
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should serve metrics as CBOR")
+    void shouldServeMetricsAsCbor() throws Exception {
+        when(tableVersion.currentETag("cbor")).thenReturn("\"v1-cbor\"");
+        when(candidateService.getMetrics(any(), any())).thenReturn(MetricsResponse.builder()
+                .averageAge(30.0)
+                .ageStdDeviation(5.2)
+                .build());
+
+        byte[] body = mockMvc.perform(get("/api/v1/candidatos/metrics").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"v1-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode metrics = new CBORMapper().readTree(body);
+        assertThat(metrics.get("averageAge").asDouble()).isEqualTo(30.0);
+        assertThat(metrics.get("ageStdDeviation").asDouble()).isEqualTo(5.2);
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should return empty list when no candidates")
     void shouldReturnEmptyListWhenNoCandidates() throws Exception {
-        when(candidateService.getAllCandidates()).thenReturn(Collections.emptyList());
+        when(candidateService.getAllCandidates(any(), any(), any())).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/v1/candidatos"))
                 .andExpect(status().isOk())
@@ -188,6 +354,77 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should bind filter and sort query parameters")
+    void shouldBindFilterAndSortParameters() throws Exception {
+        CandidateFilter expected = CandidateFilter.builder()
+                .minAge(25)
+                .maxAge(40)
+                .bornAfter(LocalDate.of(1985, 1, 1))
+                .lastNamePrefix("Pé")
+                .build();
+        when(candidateService.getAllCandidates(eq(expected), eq("age,desc"), isNull())).thenReturn(List.of(candidateResponse));
+
+        mockMvc.perform(get("/api/v1/candidatos")
+                        .param("minAge", "25")
+                        .param("maxAge", "40")
+                        .param("bornAfter", "1985-01-01")
+                        .param("lastNamePrefix", "Pé")
+                        .param("sort", "age,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should get candidates page with next cursor")
+    void shouldGetCandidatesPageWithNextCursor() throws Exception {
+        CandidatePageResponse page = CandidatePageResponse.builder()
+                .items(List.of(candidateResponse))
+                .nextCursor("aWQ6MQ")
+                .build();
+        when(candidateService.getCandidatesPage(any(), isNull(), isNull(), isNull(), eq(1))).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/candidatos").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("aWQ6MQ"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return 400 when page limit is out of range")
+    void shouldReturn400WhenPageLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/candidatos").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should stream candidates as NDJSON")
+    @SuppressWarnings("unchecked")
+    void shouldStreamCandidatesAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CandidateResponse> consumer = invocation.getArgument(0);
+            consumer.accept(candidateResponse);
+            consumer.accept(candidateResponse);
+            return null;
+        }).when(candidateService).streamAllCandidates(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/candidatos").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("}\n{\"id\":1,\"firstName\":\"Juan\"")))
+                .andExpect(content().string(endsWith("}\n")));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should get metrics successfully")
@@ -196,7 +433,7 @@ class CandidateControllerTest {
                 .averageAge(30.0)
                 .ageStdDeviation(5.2)
                 .build();
-        when(candidateService.getMetrics()).thenReturn(metrics);
+        when(candidateService.getMetrics(any(), any())).thenReturn(metrics);
 
         mockMvc.perform(get("/api/v1/candidatos/metrics"))
                 .andExpect(status().isOk())
@@ -205,11 +442,171 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$.ageStdDeviation").value(5.2));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should get age distribution")
+    void shouldGetAgeDistribution() throws Exception {
+        AgeDistributionResponse distribution = AgeDistributionResponse.builder()
+                .total(3)
+                .minAge(25)
+                .maxAge(40)
+                .modeAge(25)
+                .percentiles(Map.of("p50", 25, "p90", 40))
+                .histogram(List.of(new AgeCount(25, 2L), new AgeCount(40, 1L)))
+                .build();
+        when(candidateService.getAgeDistribution()).thenReturn(distribution);
+
+        mockMvc.perform(get("/api/v1/candidatos/metrics/distribution"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.percentiles.p90").value(40))
+                .andExpect(jsonPath("$.histogram[0].age").value(25))
+                .andExpect(jsonPath("$.histogram[0].count").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should get cohort metrics by granularity")
+    void shouldGetCohortMetrics() throws Exception {
+        when(candidateService.getCohortMetrics("year")).thenReturn(List.of(
+                CohortStatsResponse.builder().cohort(1990).candidateCount(2).averageAge(35.5).build()));
+
+        mockMvc.perform(get("/api/v1/candidatos/metrics/cohorts").param("granularity", "year"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].cohort").value(1990))
+                .andExpect(jsonPath("$[0].candidateCount").value(2))
+                .andExpect(jsonPath("$[0].averageAge").value(35.5));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should create candidates in bulk with per-row results")
+    void shouldCreateCandidatesInBulk() throws Exception {
+        when(candidateService.createCandidates(any(), any())).thenReturn(BulkCreateResponse.builder()
+                .requested(1)
+                .created(1)
+                .rejected(0)
+                .elapsedMillis(5L)
+                .rowsPerSecond(200.0)
+                .results(List.of(BulkCreateResult.builder().index(0).status(BulkCreateResult.Status.CREATED).id(1L).build()))
+                .build());
+
+        mockMvc.perform(post("/api/v1/candidatos/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return 400 when bulk body is empty")
+    void shouldReturn400WhenBulkEmpty() throws Exception {
+        mockMvc.perform(post("/api/v1/candidatos/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should accept candidates asynchronously with 202 and a status location")
+    void shouldAcceptCandidateForIngestion() throws Exception {
+        when(candidateService.acceptCandidate(any(CreateCandidateRequest.class))).thenReturn(IngestionStatusResponse.builder()
+                .trackingId("6f1c2a9e-0000-4000-8000-000000000001")
+                .status(IngestionStatusResponse.Status.PENDING)
+                .build());
+
+        mockMvc.perform(post("/api/v1/candidatos/ingestions")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        "http://localhost/api/v1/candidatos/ingestions/6f1c2a9e-0000-4000-8000-000000000001"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.candidateId").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should reject names longer than the column before journaling them")
+    void shouldRejectTooLongNamesForIngestion() throws Exception {
+        CreateCandidateRequest request = CreateCandidateRequest.builder()
+                .firstName("n".repeat(70_000))
+                .lastName("Pérez")
+                .age(35)
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .build();
+
+        mockMvc.perform(post("/api/v1/candidatos/ingestions")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("255 caracteres")));
+
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return 404 for unknown ingestion tracking IDs")
+    void shouldReturn404ForUnknownIngestion() throws Exception {
+        when(candidateService.getIngestionStatus("unknown"))
+                .thenThrow(new NotFoundException("No existe un alta con tracking ID unknown"));
+
+        mockMvc.perform(get("/api/v1/candidatos/ingestions/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("No existe un alta con tracking ID unknown"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should get the top N candidates by age")
+    void shouldGetTopCandidates() throws Exception {
+        when(candidateService.getTopCandidates("age", "desc", 50)).thenReturn(List.of(candidateResponse));
+
+        mockMvc.perform(get("/api/v1/candidatos/top")
+                        .param("by", "age")
+                        .param("order", "desc")
+                        .param("n", "50"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should return 400 when top size exceeds the maximum")
+    void shouldReturn400WhenTopSizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/v1/candidatos/top").param("n", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"USER"})
+    @DisplayName("Should open a server-sent events stream for live metrics")
+    void shouldOpenMetricsStream() throws Exception {
+        when(metricsStream.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/candidatos/metrics/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"USER"})
     @DisplayName("Should return 409 when no candidates for metrics")
     void shouldReturn409WhenNoCandidatesForMetrics() throws Exception {
-        when(candidateService.getMetrics())
+        when(candidateService.getMetrics(any(), any()))
                 .thenThrow(new BusinessException("No hay candidatos registrados para calcular métricas"));
 
         mockMvc.perform(get("/api/v1/candidatos/metrics"))
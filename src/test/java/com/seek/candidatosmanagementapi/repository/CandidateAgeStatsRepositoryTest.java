@@ -0,0 +1,43 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("CandidateAgeStatsRepository Tests")
+class CandidateAgeStatsRepositoryTest {
+
+    @Autowired
+    private CandidateAgeStatsRepository ageStatsRepository;
+
+    @Test
+    @DisplayName("Should add increments from different slots to the total")
+    void shouldSumIncrementsAcrossSlots() {
+        AgeStats before = ageStatsRepository.sumSlots();
+
+        assertThat(ageStatsRepository.increment(3, 2, 60, 1850)).isEqualTo(1);
+        assertThat(ageStatsRepository.increment(11, 1, 40, 1600)).isEqualTo(1);
+
+        AgeStats after = ageStatsRepository.sumSlots();
+        assertThat(after.getCount() - before.getCount()).isEqualTo(3L);
+        assertThat(after.getSum() - before.getSum()).isEqualTo(100L);
+        assertThat(after.getSumOfSquares() - before.getSumOfSquares()).isEqualTo(3450L);
+    }
+
+    @Test
+    @DisplayName("Should not update anything for a missing slot")
+    void shouldNotUpdateMissingSlot() {
+        assertThat(ageStatsRepository.increment(99, 1, 30, 900)).isZero();
+    }
+}
@@ -0,0 +1,43 @@
+package com.seek.candidatosmanagementapi.repository;
+
+import com.seek.candidatosmanagementapi.entity.CandidateCohortStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("CandidateCohortStatsRepository Tests")
+class CandidateCohortStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CandidateCohortStatsRepository cohortStatsRepository;
+
+    @Test
+    @DisplayName("Should create the cohort row on first insert and add on the next ones")
+    void shouldUpsertCohortRow() {
+        int year = 1850;
+        cohortStatsRepository.deleteById(year);
+        entityManager.flush();
+
+        cohortStatsRepository.increment(year, 2, 300);
+        cohortStatsRepository.increment(year, 1, 150);
+        entityManager.clear();
+
+        CandidateCohortStats cohort = cohortStatsRepository.findById(year).orElseThrow();
+        assertThat(cohort.getCandidateCount()).isEqualTo(3L);
+        assertThat(cohort.getAgeSum()).isEqualTo(450L);
+    }
+}
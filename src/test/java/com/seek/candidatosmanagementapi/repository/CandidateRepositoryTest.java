@@ -1,5 +1,10 @@
 package com.seek.candidatosmanagementapi.repository;
 
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
 import com.seek.candidatosmanagementapi.entity.Candidate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -75,6 +81,27 @@ class CandidateRepositoryTest {
         assertThat(saved.getBirthDate()).isEqualTo(LocalDate.of(1990, 5, 15));
     }
 
+    @Test
+    @DisplayName("Should insert candidates in JDBC batches with generated ids")
+    void shouldInsertAllInBatches() {
+        List<Candidate> candidates = List.of(candidate1, candidate2,
+                Candidate.builder().firstName("Ana").lastName("López").age(28).birthDate(LocalDate.of(1997, 1, 10)).build());
+
+        candidateRepository.insertAll(candidates, 2);
+
+        assertThat(candidates).extracting(Candidate::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(candidateRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count candidates by normalized identity")
+    void shouldCountByIdentity() {
+        entityManager.persistAndFlush(candidate1);
+
+        assertThat(candidateRepository.countByIdentity(" juan ", "PÉREZ", LocalDate.of(1990, 5, 15))).isEqualTo(1);
+        assertThat(candidateRepository.countByIdentity("Juan", "Pérez", LocalDate.of(1990, 5, 16))).isZero();
+    }
+
     @Test
     @DisplayName("Should find candidate by id")
     void shouldFindCandidateById() {
@@ -112,6 +139,91 @@ class CandidateRepositoryTest {
                 .containsExactlyInAnyOrder("Pérez", "García");
     }
 
+    @Test
+    @DisplayName("Should search candidate rows as projections ordered by id")
+    void shouldSearchCandidateRowsOrderedById() {
+        Candidate first = entityManager.persistAndFlush(candidate1);
+        Candidate second = entityManager.persistAndFlush(candidate2);
+        entityManager.clear();
+
+        List<CandidateRow> rows = candidateRepository.search(null, CandidateSort.DEFAULT, null, null, null);
+
+        assertThat(rows).extracting(CandidateRow::getId).containsExactly(first.getId(), second.getId());
+        assertThat(rows.get(0).getBirthDate()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(rows.get(1).getLastName()).isEqualTo("García");
+    }
+
+    @Test
+    @DisplayName("Should apply filters in the query")
+    void shouldApplyFiltersInQuery() {
+        entityManager.persistAndFlush(candidate1);
+        entityManager.persistAndFlush(candidate2);
+
+        CandidateFilter bornAfter1992 = CandidateFilter.builder().bornAfter(LocalDate.of(1992, 1, 1)).build();
+        CandidateFilter lastNameP = CandidateFilter.builder().lastNamePrefix("Pé").build();
+
+        assertThat(candidateRepository.search(bornAfter1992, CandidateSort.DEFAULT, null, null, null))
+                .extracting(CandidateRow::getFirstName).containsExactly("María");
+        assertThat(candidateRepository.search(lastNameP, CandidateSort.DEFAULT, null, null, null))
+                .extracting(CandidateRow::getFirstName).containsExactly("Juan");
+    }
+
+    @Test
+    @DisplayName("Should continue a sorted page after the keyset")
+    void shouldContinueSortedPageAfterKeyset() {
+        Candidate older = entityManager.persistAndFlush(candidate1);
+        Candidate younger = entityManager.persistAndFlush(candidate2);
+        CandidateSort byBirthDateDesc = CandidateSort.parse("birthDate,desc");
+
+        List<CandidateRow> firstPage = candidateRepository.search(null, byBirthDateDesc, null, 1, null);
+        List<CandidateRow> secondPage = candidateRepository.search(null, byBirthDateDesc, firstPage.get(0), 1, null);
+
+        assertThat(firstPage).extracting(CandidateRow::getId).containsExactly(younger.getId());
+        assertThat(secondPage).extracting(CandidateRow::getId).containsExactly(older.getId());
+    }
+
+    @Test
+    @DisplayName("Should only select requested columns plus id and sort field")
+    void shouldSelectOnlyRequestedColumns() {
+        entityManager.persistAndFlush(candidate1);
+        entityManager.persistAndFlush(candidate2);
+
+        List<CandidateRow> rows = candidateRepository.search(null, CandidateSort.parse("age,asc"), null, null,
+                EnumSet.of(CandidateField.LAST_NAME));
+
+        assertThat(rows).extracting(CandidateRow::getLastName).containsExactly("García", "Pérez");
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getId()).isNotNull();
+            assertThat(row.getAge()).isNotNull();
+            assertThat(row.getFirstName()).isNull();
+            assertThat(row.getBirthDate()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should aggregate age stats in a single query")
+    void shouldAggregateAgeStats() {
+        entityManager.persistAndFlush(candidate1);
+        entityManager.persistAndFlush(candidate2);
+
+        AgeStats stats = candidateRepository.aggregateAgeStats();
+
+        int age1 = candidate1.getAge();
+        int age2 = candidate2.getAge();
+        assertThat(stats.getCount()).isEqualTo(2L);
+        assertThat(stats.getSum()).isEqualTo((long) age1 + age2);
+        assertThat(stats.getSumOfSquares()).isEqualTo((long) age1 * age1 + (long) age2 * age2);
+    }
+
+    @Test
+    @DisplayName("Should return zero count and null sums when table is empty")
+    void shouldAggregateEmptyTable() {
+        AgeStats stats = candidateRepository.aggregateAgeStats();
+
+        assertThat(stats.getCount()).isZero();
+        assertThat(stats.getSum()).isNull();
+    }
+
     @Test
     @DisplayName("Should return empty list when no candidates")
     void shouldReturnEmptyListWhenNoCandidates() {
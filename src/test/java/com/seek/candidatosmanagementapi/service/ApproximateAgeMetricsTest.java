@@ -0,0 +1,79 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApproximateAgeMetrics Tests")
+class ApproximateAgeMetricsTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private CandidateRepository repository;
+
+    @Test
+    @DisplayName("Should match standard normal quantiles")
+    void shouldMatchNormalQuantiles() {
+        assertThat(ApproximateAgeMetrics.inverseNormal(0.975)).isCloseTo(1.959964, within(1e-6));
+        assertThat(ApproximateAgeMetrics.inverseNormal(0.995)).isCloseTo(2.575829, within(1e-6));
+        assertThat(ApproximateAgeMetrics.inverseNormal(0.5)).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should estimate from sampled ids with a confidence interval")
+    void shouldEstimateFromSampledIds() {
+        ApproximateAgeMetrics metrics = new ApproximateAgeMetrics(repository, CLOCK, 100);
+        when(repository.findMaxId()).thenReturn(1_000_000L);
+        when(repository.findBirthDatesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<LocalDate> birthDates = new ArrayList<>();
+            for (Long id : ids) {
+                birthDates.add(id % 2 == 0 ? LocalDate.of(2000, 1, 1) : LocalDate.of(1990, 1, 1));
+            }
+            return birthDates;
+        });
+
+        MetricsResponse estimate = metrics.estimate(1_000_000L, 0.99);
+
+        assertThat(estimate.getSampleSize()).isEqualTo(100);
+        assertThat(estimate.getConfidence()).isEqualTo(0.99);
+        assertThat(estimate.getAverageAgeLower()).isLessThan(estimate.getAverageAge());
+        assertThat(estimate.getAverageAgeUpper()).isGreaterThan(estimate.getAverageAge());
+        assertThat(estimate.getAverageAgeLower()).isBetween(20.0, 35.0);
+        verify(repository, never()).findBirthDatesByIdBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should read the whole table and collapse the interval when it fits in the sample")
+    void shouldReadWholeSmallTable() {
+        ApproximateAgeMetrics metrics = new ApproximateAgeMetrics(repository, CLOCK, 100);
+        when(repository.findMaxId()).thenReturn(3L);
+        when(repository.findBirthDatesByIdBetween(1L, 3L)).thenReturn(List.of(
+                LocalDate.of(2000, 6, 1), LocalDate.of(1995, 6, 1), LocalDate.of(1990, 6, 1)));
+
+        MetricsResponse estimate = metrics.estimate(3L, 0.95);
+
+        assertThat(estimate.getAverageAge()).isEqualTo(30.0);
+        assertThat(estimate.getAverageAgeLower()).isEqualTo(30.0);
+        assertThat(estimate.getAverageAgeUpper()).isEqualTo(30.0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.seek.candidatosmanagementapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BirthdayCalendar Tests")
+class BirthdayCalendarTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2025-01-01", "2025-02-28", "2025-03-01", "2024-02-29", "2024-12-31", "2027-03-01"})
+    @DisplayName("Should match per-row ChronoUnit calculation for every birth date")
+    void shouldMatchPerRowCalculation(String asOfValue) {
+        LocalDate asOf = LocalDate.parse(asOfValue);
+        BirthdayCalendar calendar = BirthdayCalendar.of(asOf);
+
+        for (LocalDate birth = asOf.minusYears(6); !birth.isAfter(asOf); birth = birth.plusDays(1)) {
+            LocalDate expectedNext = birth.withYear(asOf.getYear());
+            if (expectedNext.isBefore(asOf) || expectedNext.isEqual(asOf)) {
+                expectedNext = expectedNext.plusYears(1);
+            }
+
+            assertThat(calendar.nextBirthday(birth)).as("nextBirthday %s", birth).isEqualTo(expectedNext);
+            assertThat(calendar.daysToNextBirthday(birth)).as("daysToNextBirthday %s", birth)
+                    .isEqualTo(ChronoUnit.DAYS.between(asOf, expectedNext));
+            assertThat(calendar.ageInMonths(birth)).as("ageInMonths %s", birth)
+                    .isEqualTo(ChronoUnit.MONTHS.between(birth, asOf));
+        }
+    }
+}
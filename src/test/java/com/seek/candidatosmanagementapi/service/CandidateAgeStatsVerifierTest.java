@@ -0,0 +1,55 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateAgeStatsVerifier Tests")
+class CandidateAgeStatsVerifierTest {
+
+    @Mock
+    private CandidateAgeStatsRepository ageStatsRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CandidateAgeStatsVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new CandidateAgeStatsVerifier(ageStatsRepository, candidateRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should treat an empty table and zeroed slots as matching")
+    void shouldMatchEmptyTable() {
+        when(ageStatsRepository.sumSlots()).thenReturn(new AgeStats(0L, 0L, 0L));
+        when(candidateRepository.aggregateAgeStats()).thenReturn(new AgeStats(0L, null, null));
+
+        assertThat(verifier.verify()).isTrue();
+        assertThat(meterRegistry.counter("candidates.age_stats.drift").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report drift when the summary differs from the recompute")
+    void shouldReportDrift() {
+        when(ageStatsRepository.sumSlots()).thenReturn(new AgeStats(3L, 90L, 2750L));
+        when(candidateRepository.aggregateAgeStats()).thenReturn(new AgeStats(4L, 120L, 3650L));
+
+        assertThat(verifier.verify()).isFalse();
+        assertThat(meterRegistry.counter("candidates.age_stats.drift").count()).isEqualTo(1.0);
+    }
+}
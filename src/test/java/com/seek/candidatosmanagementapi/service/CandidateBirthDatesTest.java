@@ -0,0 +1,152 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateBirthDates Tests")
+class CandidateBirthDatesTest {
+
+    @Mock
+    private CandidateRepository repository;
+
+    @Mock
+    private CandidateAgeStatsRepository ageStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CandidateBirthDates birthDates;
+
+    @BeforeEach
+    void setUp() {
+        birthDates = new CandidateBirthDates(repository, ageStatsRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should compute completed years, including leap day birthdays")
+    void shouldComputeCompletedYears() {
+        int birth = CandidateBirthDates.pack(LocalDate.of(1990, 5, 15));
+        int leapDay = CandidateBirthDates.pack(LocalDate.of(2000, 2, 29));
+
+        assertThat(CandidateBirthDates.ageOn(birth, CandidateBirthDates.pack(LocalDate.of(2025, 5, 14)))).isEqualTo(34);
+        assertThat(CandidateBirthDates.ageOn(birth, CandidateBirthDates.pack(LocalDate.of(2025, 5, 15)))).isEqualTo(35);
+        assertThat(CandidateBirthDates.ageOn(leapDay, CandidateBirthDates.pack(LocalDate.of(2023, 2, 28)))).isEqualTo(22);
+        assertThat(CandidateBirthDates.ageOn(leapDay, CandidateBirthDates.pack(LocalDate.of(2023, 3, 1)))).isEqualTo(23);
+    }
+
+    @Test
+    @DisplayName("Should compute age stats and counts as of the given day, not the stored age")
+    void shouldComputeAgeStatsAsOfDay() {
+        when(repository.streamAllRows()).thenReturn(Stream.of(row(1L, LocalDate.of(1990, 5, 15)), row(2L, LocalDate.of(1995, 3, 20))));
+        birthDates.load();
+
+        AgeStats before = birthDates.ageStats(LocalDate.of(2025, 5, 14));
+        AgeStats after = birthDates.ageStats(LocalDate.of(2025, 5, 15));
+        long[] counts = birthDates.ageCounts(LocalDate.of(2025, 5, 15));
+
+        assertThat(before).isEqualTo(new AgeStats(2L, 34L + 30L, 34L * 34 + 30L * 30));
+        assertThat(after.average()).isEqualTo(32.5);
+        assertThat(counts).hasSize(CandidateBirthDates.MAX_AGE + 1);
+        assertThat(counts[35]).isEqualTo(1L);
+        assertThat(counts[30]).isEqualTo(1L);
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should keep the day's age counts up to date with created candidates")
+    void shouldUpdateDayAgeCountsOnCreate() {
+        when(repository.streamAllRows()).thenReturn(Stream.of(row(1L, LocalDate.of(1990, 5, 15))));
+        birthDates.load();
+        LocalDate today = LocalDate.of(2025, 5, 14);
+
+        long[] first = birthDates.ageCounts(today);
+        first[34] = 100;
+        birthDates.onCandidatesCreated(new CandidatesCreatedEvent(List.of(
+                row(2L, LocalDate.of(1995, 3, 20)), row(3L, LocalDate.of(1990, 5, 15)))));
+        long[] afterCreate = birthDates.ageCounts(today);
+        long[] nextDay = birthDates.ageCounts(today.plusDays(1));
+
+        assertThat(afterCreate[34]).isEqualTo(2L);
+        assertThat(afterCreate[30]).isEqualTo(1L);
+        assertThat(nextDay[34]).isZero();
+        assertThat(nextDay[35]).isEqualTo(2L);
+        assertThat(nextDay[30]).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should append created candidates and reload only when a mismatch is confirmed")
+    void shouldAppendAndReloadOnConfirmedMismatch() {
+        when(ageStatsRepository.sumSlots())
+                .thenReturn(new AgeStats(1L, 35L, 1225L))
+                .thenReturn(new AgeStats(2L, 65L, 2125L))
+                .thenReturn(new AgeStats(3L, 90L, 2750L));
+        when(repository.streamAllRows())
+                .thenReturn(Stream.of(row(1L, LocalDate.of(1990, 5, 15))))
+                .thenReturn(Stream.of(row(1L, LocalDate.of(1990, 5, 15)), row(2L, LocalDate.of(1995, 3, 20)),
+                        row(3L, LocalDate.of(2000, 1, 1))));
+        birthDates.load();
+
+        birthDates.onCandidatesCreated(new CandidatesCreatedEvent(List.of(row(2L, LocalDate.of(1995, 3, 20)))));
+        birthDates.synchronize();
+        assertThat(birthDates.ageStats(LocalDate.of(2025, 6, 1)).getCount()).isEqualTo(2L);
+
+        // Candidato 3 creado en otra instancia: la primera diferencia solo se anota, la segunda recarga
+        birthDates.synchronize();
+        verify(repository, times(1)).streamAllRows();
+        birthDates.synchronize();
+
+        assertThat(birthDates.ageStats(LocalDate.of(2025, 6, 1)).getSum()).isEqualTo(35L + 30L + 25L);
+        verify(repository, times(2)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should not reload forever when the summary itself has drifted")
+    void shouldNotReloadOnConstantSummaryDrift() {
+        when(ageStatsRepository.sumSlots()).thenReturn(new AgeStats(5L, 150L, 4500L));
+        when(repository.streamAllRows()).thenReturn(Stream.of(row(1L, LocalDate.of(1990, 5, 15))));
+        birthDates.load();
+
+        birthDates.synchronize();
+        birthDates.synchronize();
+        birthDates.synchronize();
+
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should keep candidates created during a reload exactly once")
+    void shouldKeepCandidatesCreatedDuringReload() {
+        CandidateRow existing = row(1L, LocalDate.of(1990, 5, 15));
+        CandidateRow created = row(2L, LocalDate.of(1995, 3, 20));
+        when(repository.streamAllRows()).thenAnswer(invocation -> {
+            birthDates.onCandidatesCreated(new CandidatesCreatedEvent(List.of(existing, created)));
+            return Stream.of(existing);
+        });
+
+        birthDates.load();
+
+        assertThat(birthDates.ageStats(LocalDate.of(2025, 6, 1))).isEqualTo(new AgeStats(2L, 35L + 30L, 35L * 35 + 30L * 30));
+    }
+
+    private static CandidateRow row(long id, LocalDate birthDate) {
+        return new CandidateRow(id, "Nombre" + id, "Apellido", 30, birthDate);
+    }
+}
@@ -0,0 +1,114 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateDuplicateDetector Tests")
+class CandidateDuplicateDetectorTest {
+
+    @Mock
+    private CandidateRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate juanBirthDate = LocalDate.of(1990, 5, 15);
+    private final LocalDate mariaBirthDate = LocalDate.of(1995, 3, 20);
+
+    @Test
+    @DisplayName("Should ignore case, accents and surrounding spaces in the identity")
+    void shouldNormalizeIdentity() {
+        assertThat(CandidateDuplicateDetector.identity(" JOSÉ ", "Pérez", juanBirthDate))
+                .isEqualTo(CandidateDuplicateDetector.identity("jose", "perez", juanBirthDate));
+        assertThat(CandidateDuplicateDetector.identity("Jose", "Perez", juanBirthDate))
+                .isNotEqualTo(CandidateDuplicateDetector.identity("Jose", "Perez", mariaBirthDate));
+    }
+
+    @Test
+    @DisplayName("Should skip the database for candidates the filter has never seen")
+    void shouldSkipQueryForNewCandidates() {
+        CandidateDuplicateDetector detector = built(new CandidateRow(1L, "Juan", "Pérez", 35, juanBirthDate));
+
+        assertThat(detector.isDuplicate("María", "García", mariaBirthDate)).isFalse();
+
+        verify(repository, never()).countByIdentity(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should confirm probable duplicates with the indexed query")
+    void shouldConfirmProbableDuplicates() {
+        CandidateDuplicateDetector detector = built(new CandidateRow(1L, "Juan", "Pérez", 35, juanBirthDate));
+        when(repository.countByIdentity("juan", "PEREZ", juanBirthDate)).thenReturn(1L);
+
+        assertThat(detector.isDuplicate("juan", "PEREZ", juanBirthDate)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should add candidates created after startup to the filter")
+    void shouldAddCreatedCandidates() {
+        CandidateDuplicateDetector detector = built();
+        detector.onCandidatesCreated(new CandidatesCreatedEvent(
+                List.of(new CandidateRow(2L, "María", "García", 30, mariaBirthDate))));
+        when(repository.countByIdentity("María", "García", mariaBirthDate)).thenReturn(1L);
+
+        assertThat(detector.isDuplicate("María", "García", mariaBirthDate)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should always query the database when the filter is disabled")
+    void shouldQueryWhenDisabled() {
+        CandidateDuplicateDetector detector = new CandidateDuplicateDetector(repository, transactionManager,
+                new SimpleMeterRegistry(), false, 1000, 0.01);
+        detector.rebuild();
+
+        assertThat(detector.isDuplicate("María", "García", mariaBirthDate)).isFalse();
+
+        verify(repository).countByIdentity("María", "García", mariaBirthDate);
+        verify(repository, never()).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one")
+    void shouldKeepFalsePositiveRateBounded() {
+        CandidateDuplicateDetector.BloomFilter filter = CandidateDuplicateDetector.BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("candidato-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("candidato-" + i)).isTrue();
+            if (filter.mightContain("otro-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private CandidateDuplicateDetector built(CandidateRow... rows) {
+        when(repository.count()).thenReturn((long) rows.length);
+        when(repository.streamAllRows()).thenReturn(Stream.of(rows));
+        CandidateDuplicateDetector detector = new CandidateDuplicateDetector(repository, transactionManager,
+                new SimpleMeterRegistry(), true, 1000, 0.01);
+        detector.rebuild();
+        return detector;
+    }
+}
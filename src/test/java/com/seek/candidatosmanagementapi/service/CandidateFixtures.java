@@ -0,0 +1,39 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Candidatos de prueba compartidos por los tests de escritura en lote.
+ */
+final class CandidateFixtures {
+
+    private CandidateFixtures() {
+    }
+
+    static Candidate candidate(String firstName) {
+        return Candidate.builder()
+                .firstName(firstName)
+                .lastName("Pérez")
+                .age(35)
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .build();
+    }
+
+    /**
+     * Simula {@link CandidateBatchWriter#insertAll}: asigna IDs correlativos y devuelve las filas.
+     */
+    static List<CandidateRow> rowsFor(List<Candidate> candidates, AtomicLong ids) {
+        List<CandidateRow> rows = new ArrayList<>();
+        for (Candidate c : candidates) {
+            c.setId(ids.incrementAndGet());
+            rows.add(new CandidateRow(c.getId(), c.getFirstName(), c.getLastName(), c.getAge(), c.getBirthDate()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,197 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.seek.candidatosmanagementapi.service.CandidateFixtures.candidate;
+import static com.seek.candidatosmanagementapi.service.CandidateFixtures.rowsFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateGroupCommitter Tests")
+class CandidateGroupCommitterTest {
+
+    @Mock
+    private CandidateBatchWriter batchWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CandidateGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert concurrent creates in a single transaction")
+    void shouldGroupConcurrentCreates() throws Exception {
+        AtomicLong ids = new AtomicLong();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> rowsFor(invocation.getArgument(0), ids));
+        start(3, Duration.ofSeconds(5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<CandidateRow>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String name = "Candidato" + i;
+                results.add(executor.submit(() -> committer.insert(candidate(name))));
+            }
+
+            List<Long> created = new ArrayList<>();
+            for (Future<CandidateRow> result : results) {
+                created.add(result.get(5, TimeUnit.SECONDS).getId());
+            }
+
+            assertThat(created).containsExactlyInAnyOrder(1L, 2L, 3L);
+            verify(batchWriter, times(1)).insertAll(anyList());
+            assertThat(meterRegistry.summary("candidates.create.group_commit.batch_size").max()).isEqualTo(3.0);
+            assertThat(meterRegistry.timer("candidates.create.group_commit.wait").count()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch when the wait window expires")
+    void shouldFlushAfterMaxWait() {
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> rowsFor(invocation.getArgument(0), new AtomicLong()));
+        start(256, Duration.ofMillis(2));
+
+        assertThat(committer.insert(candidate("Juan")).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should retry one by one so only the failing create gets the error")
+    void shouldIsolateFailuresWithinBatch() throws Exception {
+        AtomicLong ids = new AtomicLong();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Candidate> candidates = invocation.getArgument(0);
+            if (candidates.size() > 1 || candidates.get(0).getFirstName().equals("Duplicado")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return rowsFor(candidates, ids);
+        });
+        start(2, Duration.ofSeconds(5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CandidateRow> ok = executor.submit(() -> committer.insert(candidate("Juan")));
+            Future<CandidateRow> duplicate = executor.submit(() -> committer.insert(candidate("Duplicado")));
+
+            assertThat(ok.get(5, TimeUnit.SECONDS).getFirstName()).isEqualTo("Juan");
+            assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop waiting after the timeout when the batch does not commit")
+    void shouldTimeOutWhenBatchHangs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return rowsFor(invocation.getArgument(0), new AtomicLong());
+        });
+        start(256, Duration.ofMillis(2), Duration.ofMillis(100));
+
+        try {
+            assertThatThrownBy(() -> committer.insert(candidate("Juan")))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("No se pudo confirmar el alta a tiempo");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject pending creates and disable itself when the writer dies")
+    void shouldRejectPendingWhenWriterDies() {
+        when(batchWriter.insertAll(anyList())).thenThrow(new OutOfMemoryError("Java heap space"));
+        start(256, Duration.ofMillis(2));
+
+        assertThat(committer.isEnabled()).isTrue();
+        assertThatThrownBy(() -> committer.insert(candidate("Juan")))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Las altas siguientes ya no se encolan: el servicio las inserta por su cuenta
+        assertThat(committer.isEnabled()).isFalse();
+        assertThatThrownBy(() -> committer.insert(candidate("María")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(batchWriter, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 a create that stays queued past the timeout")
+    void shouldRejectQueuedCreateAfterTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return rowsFor(invocation.getArgument(0), new AtomicLong());
+        });
+        start(1, Duration.ofMillis(2), Duration.ofMillis(100));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CandidateRow> inserting = executor.submit(() -> committer.insert(candidate("Juan")));
+            verify(batchWriter, timeout(5000)).insertAll(anyList());
+
+            assertThatThrownBy(() -> committer.insert(candidate("María")))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("Reintente más tarde");
+            release.countDown();
+            assertThatThrownBy(() -> inserting.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ServiceUnavailableException.class);
+            verify(batchWriter, times(1)).insertAll(anyList());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject creates after stopping")
+    void shouldRejectAfterStop() throws Exception {
+        start(256, Duration.ofMillis(2));
+        committer.stop();
+
+        assertThatThrownBy(() -> committer.insert(candidate("Juan")))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(batchWriter);
+    }
+
+    private void start(int maxBatchSize, Duration maxWait) {
+        start(maxBatchSize, maxWait, Duration.ofSeconds(30));
+    }
+
+    private void start(int maxBatchSize, Duration maxWait, Duration timeout) {
+        meterRegistry = new SimpleMeterRegistry();
+        committer = new CandidateGroupCommitter(batchWriter, meterRegistry, true, maxBatchSize, maxWait, timeout);
+        committer.start();
+    }
+}
@@ -0,0 +1,179 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.repository.CandidateIngestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.seek.candidatosmanagementapi.service.CandidateFixtures.candidate;
+import static com.seek.candidatosmanagementapi.service.CandidateFixtures.rowsFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateJournalDrainer Tests")
+class CandidateJournalDrainerTest {
+
+    @TempDir
+    private Path dir;
+
+    @Mock
+    private CandidateBatchWriter batchWriter;
+
+    @Mock
+    private CandidateIngestionRepository ingestionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Instant now = Instant.parse("2025-06-01T10:00:00Z");
+    private CandidateJournal journal;
+    private CandidateJournalDrainer drainer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        journal = new CandidateJournal(true, dir.resolve("candidates.journal"), DataSize.ofKilobytes(64));
+        journal.open();
+        drainer = new CandidateJournalDrainer(journal, batchWriter, ingestionRepository, transactionManager,
+                Clock.fixed(now, ZoneOffset.UTC), 500, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should insert journaled candidates in one batch and record them as applied")
+    void shouldApplyJournaledCandidates() {
+        String first = journal.append(candidate("Juan"));
+        String second = journal.append(candidate("María"));
+        AtomicLong ids = new AtomicLong();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> rowsFor(invocation.getArgument(0), ids));
+
+        drainer.drain();
+
+        verify(batchWriter, times(1)).insertAll(anyList());
+        verify(ingestionRepository).record(first, "APPLIED", 1L, null, now);
+        verify(ingestionRepository).record(second, "APPLIED", 2L, null, now);
+        assertThat(journal.pendingCount()).isZero();
+        assertThat(journal.read(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip candidates already applied before a crash")
+    void shouldSkipAlreadyAppliedCandidates() {
+        String first = journal.append(candidate("Juan"));
+        String second = journal.append(candidate("María"));
+        when(ingestionRepository.findRecorded(List.of(first, second))).thenReturn(List.of(first));
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> rowsFor(invocation.getArgument(0), new AtomicLong(10)));
+
+        drainer.drain();
+
+        verify(batchWriter).insertAll(argThat(candidates -> candidates.size() == 1
+                && candidates.get(0).getFirstName().equals("María")));
+        verify(ingestionRepository, never()).record(eq(first), any(), any(), any(), any());
+        verify(ingestionRepository).record(second, "APPLIED", 11L, null, now);
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep candidates in the journal while the database is unavailable")
+    void shouldKeepCandidatesWhenDatabaseFails() {
+        String trackingId = journal.append(candidate("Juan"));
+        when(batchWriter.insertAll(anyList())).thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+        drainer.drain();
+
+        assertThat(journal.isPending(trackingId)).isTrue();
+        assertThat(journal.read(10)).hasSize(1);
+        verify(ingestionRepository, never()).record(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should record only the offending candidate as failed when a batch violates integrity")
+    void shouldRecordFailedCandidate() {
+        String valid = journal.append(candidate("Juan"));
+        String duplicate = journal.append(candidate("María"));
+        AtomicLong ids = new AtomicLong();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Candidate> candidates = invocation.getArgument(0);
+            if (candidates.stream().anyMatch(c -> c.getFirstName().equals("María"))) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return rowsFor(candidates, ids);
+        });
+
+        drainer.drain();
+
+        verify(ingestionRepository).record(valid, "APPLIED", 1L, null, now);
+        verify(ingestionRepository).record(eq(duplicate), eq("FAILED"), isNull(), any(), eq(now));
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record a candidate that keeps failing as failed and move on after the max attempts")
+    void shouldSkipPoisonCandidateAfterMaxAttempts() {
+        String poison = journal.append(candidate("Veneno"));
+        String valid = journal.append(candidate("Juan"));
+        AtomicLong ids = new AtomicLong();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Candidate> candidates = invocation.getArgument(0);
+            if (candidates.stream().anyMatch(c -> c.getFirstName().equals("Veneno"))) {
+                throw new IllegalArgumentException("Check constraint 'chk_candidates_age' is violated");
+            }
+            return rowsFor(candidates, ids);
+        });
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            drainer.drain();
+            assertThat(journal.isPending(poison)).isTrue();
+        }
+        verify(ingestionRepository, never()).record(any(), any(), any(), any(), any());
+
+        drainer.drain();
+
+        verify(ingestionRepository).record(eq(poison), eq("FAILED"), isNull(), any(), eq(now));
+        verify(ingestionRepository).record(valid, "APPLIED", 1L, null, now);
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the batch while the database is down even after the max attempts")
+    void shouldKeepCandidatesWhenFailuresCannotBeRecorded() {
+        String trackingId = journal.append(candidate("Juan"));
+        when(batchWriter.insertAll(anyList())).thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+        when(ingestionRepository.findRecorded(anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of())
+                .thenReturn(List.of())
+                .thenReturn(List.of())
+                .thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+        for (int attempt = 0; attempt < 4; attempt++) {
+            drainer.drain();
+        }
+
+        assertThat(journal.isPending(trackingId)).isTrue();
+        verify(ingestionRepository, never()).record(any(), any(), any(), any(), any());
+    }
+}
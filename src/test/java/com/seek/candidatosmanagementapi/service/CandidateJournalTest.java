@@ -0,0 +1,218 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import static com.seek.candidatosmanagementapi.service.CandidateFixtures.candidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CandidateJournal Tests")
+class CandidateJournalTest {
+
+    @TempDir
+    private Path dir;
+
+    private CandidateJournal journal;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read appended candidates in order until drained")
+    void shouldReadAppendedCandidatesInOrder() throws Exception {
+        journal = open(DataSize.ofKilobytes(64));
+
+        String first = journal.append(candidate("Juan"));
+        String second = journal.append(candidate("María"));
+
+        List<CandidateJournal.Entry> entries = journal.read(10);
+        assertThat(entries).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(first, second);
+        assertThat(entries.get(1).toCandidate().getFirstName()).isEqualTo("María");
+        assertThat(entries.get(1).toCandidate().getId()).isNull();
+        assertThat(journal.isPending(first)).isTrue();
+
+        journal.markDrained(entries.subList(0, 1));
+        assertThat(journal.isPending(first)).isFalse();
+        assertThat(journal.read(10)).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(second);
+
+        journal.markDrained(journal.read(10));
+        assertThat(journal.read(10)).isEmpty();
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should recover undrained candidates after a restart")
+    void shouldRecoverUndrainedCandidates() throws Exception {
+        journal = open(DataSize.ofKilobytes(64));
+        String first = journal.append(candidate("Juan"));
+        String second = journal.append(candidate("María"));
+        journal.markDrained(journal.read(1));
+        journal.close();
+
+        journal = open(DataSize.ofKilobytes(64));
+
+        assertThat(journal.isPending(first)).isFalse();
+        assertThat(journal.read(10)).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Should discard a record whose checksum does not match")
+    void shouldDiscardCorruptedTail() throws Exception {
+        journal = open(DataSize.ofKilobytes(64));
+        String first = journal.append(candidate("Juan"));
+        journal.append(candidate("María"));
+        journal.close();
+
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("candidates.journal").toFile(), "rw")) {
+            long lastByte = lastRecordByte(file);
+            file.seek(lastByte);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        journal = open(DataSize.ofKilobytes(64));
+
+        assertThat(journal.read(10)).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(first);
+        assertThat(journal.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject candidates when the journal is full")
+    void shouldRejectWhenFull() throws Exception {
+        journal = open(DataSize.ofBytes(80));
+        journal.append(candidate("Juan"));
+
+        assertThatThrownBy(() -> journal.append(candidate("María")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("llena");
+    }
+
+    @Test
+    @DisplayName("Should reclaim drained space under steady traffic instead of filling up")
+    void shouldReclaimSpaceWhileDraining() throws Exception {
+        journal = open(DataSize.ofKilobytes(4));
+        journal.append(candidate("Inicial"));
+
+        String last = null;
+        for (int i = 0; i < 1000; i++) {
+            last = journal.append(candidate("Candidato" + i));
+            List<CandidateJournal.Entry> drained = journal.read(1);
+            journal.markDrained(drained);
+        }
+
+        assertThat(journal.pendingCount()).isEqualTo(1);
+        journal.close();
+
+        journal = open(DataSize.ofKilobytes(4));
+        assertThat(journal.read(10)).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(last);
+    }
+
+    @Test
+    @DisplayName("Should discard leftover records after the last valid one when reopening")
+    void shouldDiscardLeftoverRecordsAfterCompaction() throws Exception {
+        journal = open(DataSize.ofKilobytes(64));
+        String first = journal.append(candidate("Juan"));
+        journal.append(candidate("María"));
+        journal.close();
+
+        // Simula una compactación interrumpida: el registro original queda más adelante, detrás de bytes en cero
+        long leftover;
+        byte[] record;
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("candidates.journal").toFile(), "rw")) {
+            long second = CandidateJournal.HEADER_SIZE + CandidateJournal.RECORD_HEADER_SIZE
+                    + readIntAt(file, CandidateJournal.HEADER_SIZE);
+            record = new byte[CandidateJournal.RECORD_HEADER_SIZE + readIntAt(file, second)];
+            file.seek(second);
+            file.readFully(record);
+            file.seek(second);
+            file.write(new byte[record.length]);
+            leftover = second + 1024;
+            file.seek(leftover);
+            file.write(record);
+        }
+
+        journal = open(DataSize.ofKilobytes(64));
+
+        assertThat(journal.read(10)).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(first);
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("candidates.journal").toFile(), "r")) {
+            byte[] after = new byte[record.length];
+            file.seek(leftover);
+            file.readFully(after);
+            assertThat(after).containsOnly(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand over a record with a valid checksum but unreadable data as unreadable")
+    void shouldReadUnreadableRecordAsUnreadable() throws Exception {
+        journal = open(DataSize.ofKilobytes(64));
+        String first = journal.append(candidate("Juan"));
+        journal.close();
+
+        UUID trackingId = UUID.randomUUID();
+        ByteBuffer payload = ByteBuffer.allocate(18)
+                .putLong(trackingId.getMostSignificantBits())
+                .putLong(trackingId.getLeastSignificantBits())
+                .putShort((short) 0xFFFF);
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("candidates.journal").toFile(), "rw")) {
+            file.seek(lastRecordByte(file) + 1);
+            file.writeInt(payload.capacity());
+            file.writeInt((int) crc.getValue());
+            file.write(payload.array());
+        }
+
+        journal = open(DataSize.ofKilobytes(64));
+
+        List<CandidateJournal.Entry> entries = journal.read(10);
+        assertThat(entries).extracting(CandidateJournal.Entry::getTrackingId).containsExactly(first, trackingId.toString());
+        assertThat(journal.isPending(trackingId.toString())).isTrue();
+        assertThatThrownBy(() -> entries.get(1).toCandidate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(trackingId.toString());
+    }
+
+    private CandidateJournal open(DataSize capacity) throws Exception {
+        CandidateJournal opened = new CandidateJournal(true, dir.resolve("candidates.journal"), capacity);
+        opened.open();
+        return opened;
+    }
+
+    private static int readIntAt(RandomAccessFile file, long offset) throws Exception {
+        file.seek(offset);
+        return file.readInt();
+    }
+
+    /**
+     * Posición del último byte de datos escrito, recorriendo los registros desde la cabecera.
+     */
+    private static long lastRecordByte(RandomAccessFile file) throws Exception {
+        long offset = CandidateJournal.HEADER_SIZE;
+        long last = -1;
+        while (true) {
+            file.seek(offset);
+            int length = file.readInt();
+            if (length == 0) {
+                return last;
+            }
+            last = offset + CandidateJournal.RECORD_HEADER_SIZE + length - 1;
+            offset = last + 1;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateListSnapshot Tests")
+class CandidateListSnapshotTest {
+
+    @Mock
+    private CandidateRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ObjectMapper objectMapper;
+    private CandidateListSnapshot snapshot;
+
+    private final CandidateRow juan = new CandidateRow(1L, "Juan", "Pérez", 35, LocalDate.of(1990, 5, 15));
+    private final CandidateRow maria = new CandidateRow(2L, "María", "García", 30, LocalDate.of(1995, 3, 20));
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        snapshot = new CandidateListSnapshot(repository, new CandidateResponseMapper(Clock.systemDefaultZone()), objectMapper,
+                transactionManager, true);
+    }
+
+    @Test
+    @DisplayName("Should only serve unfiltered lists in default order")
+    void shouldOnlyServeUnfilteredDefaultOrder() {
+        assertThat(snapshot.canServe(null, null, null)).isTrue();
+        assertThat(snapshot.canServe(new CandidateFilter(), "id,asc", "")).isTrue();
+        assertThat(snapshot.canServe(CandidateFilter.builder().minAge(20).build(), null, null)).isFalse();
+        assertThat(snapshot.canServe(null, "age,desc", null)).isFalse();
+        assertThat(snapshot.canServe(null, null, "id,firstName")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build once and append created candidates without rescanning")
+    void shouldAppendCreatedCandidatesWithoutRescanning() throws Exception {
+        when(repository.streamAllRows()).thenReturn(Stream.of(juan));
+
+        assertThat(readAll()).extracting(CandidateResponse::getId).containsExactly(1L);
+
+        snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(maria)));
+
+        List<CandidateResponse> afterCreate = readAll();
+        assertThat(afterCreate).extracting(CandidateResponse::getId).containsExactly(1L, 2L);
+        assertThat(afterCreate.get(1).getNextBirthday()).isNotNull();
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should keep ID order when creates commit out of order")
+    void shouldKeepIdOrderWhenCreatesCommitOutOfOrder() throws Exception {
+        CandidateRow pedro = new CandidateRow(3L, "Pedro", "López", 28, LocalDate.of(1997, 8, 1));
+        CandidateRow ana = new CandidateRow(4L, "Ana", "Torres", 25, LocalDate.of(2000, 1, 10));
+        when(repository.streamAllRows()).thenReturn(Stream.of(maria));
+
+        assertThat(readAll()).extracting(CandidateResponse::getId).containsExactly(2L);
+
+        snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(ana)));
+        snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(pedro)));
+        snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(juan)));
+        snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(pedro)));
+
+        List<CandidateResponse> afterCreate = readAll();
+        assertThat(afterCreate).extracting(CandidateResponse::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(afterCreate).extracting(CandidateResponse::getFirstName)
+                .containsExactly("Juan", "María", "Pedro", "Ana");
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should keep candidates created during the rebuild exactly once")
+    void shouldKeepCandidatesCreatedDuringRebuild() throws Exception {
+        when(repository.streamAllRows()).thenAnswer(invocation -> {
+            // juan ya estaba en la tabla al leerla; maria se confirma después de iniciada la lectura
+            snapshot.onCandidatesCreated(new CandidatesCreatedEvent(List.of(juan, maria)));
+            return Stream.of(juan);
+        });
+
+        assertThat(readAll()).extracting(CandidateResponse::getId).containsExactly(1L, 2L);
+        assertThat(readAll()).extracting(CandidateResponse::getId).containsExactly(1L, 2L);
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should scan the table once for concurrent readers")
+    void shouldScanOnceForConcurrentReaders() throws Exception {
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.streamAllRows()).thenAnswer(invocation -> {
+            scanning.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Stream.of(juan);
+        });
+
+        CompletableFuture<List<CandidateResponse>> first = CompletableFuture.supplyAsync(this::readAllUnchecked);
+        assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<CandidateResponse>> second = CompletableFuture.supplyAsync(this::readAllUnchecked);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).extracting(CandidateResponse::getId).containsExactly(1L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).extracting(CandidateResponse::getId).containsExactly(1L);
+        verify(repository, times(1)).streamAllRows();
+    }
+
+    @Test
+    @DisplayName("Should write an empty JSON array when there are no candidates")
+    void shouldWriteEmptyArray() throws Exception {
+        when(repository.streamAllRows()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    private List<CandidateResponse> readAll() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+        return Arrays.asList(objectMapper.readValue(out.toByteArray(), CandidateResponse[].class));
+    }
+
+    private List<CandidateResponse> readAllUnchecked() {
+        try {
+            return readAll();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
+import com.seek.candidatosmanagementapi.entity.IdempotencyKey;
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import com.seek.candidatosmanagementapi.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeys Tests")
+class IdempotencyKeysTest {
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ScheduledFuture<Object> renewal;
+
+    private final Instant now = Instant.parse("2025-06-01T10:00:00Z");
+    private final Duration ttl = Duration.ofHours(24);
+    private final Duration lease = Duration.ofMinutes(2);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private IdempotencyKeys idempotencyKeys;
+
+    private final CreateCandidateRequest request = CreateCandidateRequest.builder()
+            .firstName("Juan")
+            .lastName("Pérez")
+            .age(35)
+            .birthDate(LocalDate.of(1990, 5, 15))
+            .build();
+
+    private final CandidateResponse response = CandidateResponse.builder()
+            .id(1L)
+            .firstName("Juan")
+            .lastName("Pérez")
+            .age(35)
+            .birthDate(LocalDate.of(1990, 5, 15))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(renewal).when(taskScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        idempotencyKeys = keys(DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("Should run the action once and answer retries from memory")
+    void shouldRunActionOnceAndReplayFromMemory() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<CandidateResponse> action = () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+
+        CandidateResponse first = idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, action);
+        CandidateResponse retry = idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, action);
+
+        assertThat(first).isEqualTo(response);
+        assertThat(retry).isEqualTo(response);
+        assertThat(calls).hasValue(1);
+        verify(repository, times(1)).reserve(eq("create:retry-42"), anyString(), eq(now), eq(now.plus(lease)));
+        String hash = storedHash();
+        verify(repository).complete("create:retry-42", hash, objectMapper.writeValueAsString(response), now.plus(ttl));
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response when another instance created it")
+    void shouldReplayStoredResponse() throws Exception {
+        CandidateResponse created = idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, () -> response);
+        String hash = storedHash();
+
+        IdempotencyKeys otherInstance = keys(DataSize.ofMegabytes(1));
+        when(repository.reserve(anyString(), anyString(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(repository.findById("create:retry-42")).thenReturn(Optional.of(stored(hash, objectMapper.writeValueAsString(created))));
+
+        CandidateResponse replayed = otherInstance.execute("create", "retry-42", request, CandidateResponse.class, () -> {
+            throw new AssertionError("No debe volver a crear el candidato");
+        });
+
+        assertThat(replayed).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body")
+    void shouldRejectKeyReusedWithDifferentBody() {
+        idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, () -> response);
+
+        CreateCandidateRequest other = CreateCandidateRequest.builder()
+                .firstName("María")
+                .lastName("García")
+                .age(30)
+                .birthDate(LocalDate.of(1995, 3, 20))
+                .build();
+
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", "retry-42", other, CandidateResponse.class, () -> response))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("contenido distinto");
+    }
+
+    @Test
+    @DisplayName("Should reject retries while the original request is still in progress")
+    void shouldRejectWhileInProgress() {
+        idempotencyKeys.execute("bulk", "setup", request, CandidateResponse.class, () -> response);
+        String hash = storedHash();
+        when(repository.reserve(anyString(), anyString(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(repository.findById("create:retry-42")).thenReturn(Optional.of(stored(hash, null)));
+
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, () -> response))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("en proceso");
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails so it can be retried")
+    void shouldReleaseKeyOnFailure() {
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, () -> {
+            throw new BusinessException("La edad proporcionada no coincide");
+        })).isInstanceOf(BusinessException.class);
+
+        verify(repository).release("create:retry-42");
+        verify(repository, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should renew the reservation while the action runs and stop renewing afterwards")
+    void shouldRenewLeaseWhileRunning() {
+        ArgumentCaptor<Runnable> renew = ArgumentCaptor.forClass(Runnable.class);
+
+        idempotencyKeys.execute("bulk", "retry-42", request, CandidateResponse.class, () -> {
+            verify(taskScheduler).scheduleAtFixedRate(renew.capture(), eq(now.plus(lease.dividedBy(3))), eq(lease.dividedBy(3)));
+            renew.getValue().run();
+            return response;
+        });
+
+        String hash = storedHash();
+        verify(repository).renew("bulk:retry-42", hash, now.plus(lease));
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Should keep the original error when the reservation cannot be released")
+    void shouldKeepOriginalErrorWhenReleaseFails() {
+        when(repository.release("create:retry-42")).thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, () -> {
+            throw new BusinessException("La edad proporcionada no coincide");
+        })).isInstanceOf(BusinessException.class)
+                .hasMessage("La edad proporcionada no coincide");
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Should answer with the created candidate when its response cannot be stored")
+    void shouldAnswerWhenCompleteFails() {
+        when(repository.complete(anyString(), anyString(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("Connection lost"));
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<CandidateResponse> action = () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+
+        CandidateResponse first = idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, action);
+        CandidateResponse retry = idempotencyKeys.execute("create", "retry-42", request, CandidateResponse.class, action);
+
+        assertThat(first).isEqualTo(response);
+        assertThat(retry).isEqualTo(response);
+        assertThat(calls).hasValue(1);
+        verify(repository, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used responses beyond the cache weight")
+    void shouldEvictLeastRecentlyUsedResponses() throws Exception {
+        long weight = objectMapper.writeValueAsString(response).length();
+        IdempotencyKeys keys = keys(DataSize.ofBytes(4 * weight));
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<CandidateResponse> action = () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            keys.execute("create", key, request, CandidateResponse.class, action);
+        }
+        keys.execute("create", "a", request, CandidateResponse.class, action);
+        keys.execute("create", "e", request, CandidateResponse.class, action);
+        assertThat(calls).hasValue(5);
+
+        keys.execute("create", "a", request, CandidateResponse.class, action);
+        assertThat(calls).hasValue(5);
+
+        keys.execute("create", "b", request, CandidateResponse.class, action);
+        assertThat(calls).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("Should not keep responses too heavy for the cache in memory")
+    void shouldNotCacheHeavyResponses() throws Exception {
+        long weight = objectMapper.writeValueAsString(response).length();
+        IdempotencyKeys keys = keys(DataSize.ofBytes(4 * weight - 1));
+
+        keys.execute("bulk", "retry-42", request, CandidateResponse.class, () -> response);
+        keys.execute("bulk", "retry-42", request, CandidateResponse.class, () -> response);
+
+        verify(repository, times(2)).reserve(eq("bulk:retry-42"), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject blank or too long keys")
+    void shouldRejectInvalidKeys() {
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", " ", request, CandidateResponse.class, () -> response))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> idempotencyKeys.execute("create", "k".repeat(IdempotencyKeys.MAX_KEY_LENGTH + 1),
+                request, CandidateResponse.class, () -> response))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(repository);
+    }
+
+    private IdempotencyKeys keys(DataSize maxCachedWeight) {
+        return new IdempotencyKeys(repository, objectMapper, transactionManager, taskScheduler,
+                Clock.fixed(now, ZoneOffset.UTC), new SimpleMeterRegistry(), ttl, lease, maxCachedWeight);
+    }
+
+    /**
+     * Huella que la primera petición reservó en el repositorio.
+     */
+    private String storedHash() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(repository, atLeastOnce()).reserve(anyString(), hash.capture(), any(), any());
+        return hash.getValue();
+    }
+
+    private IdempotencyKey stored(String hash, String json) {
+        return IdempotencyKey.builder()
+                .key("create:retry-42")
+                .requestHash(hash)
+                .response(json)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MetricsCache Tests")
+class MetricsCacheTest {
+
+    private final MetricsResponse metrics = MetricsResponse.builder().averageAge(30.0).ageStdDeviation(5.0).build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MetricsCache(meterRegistry, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should serve cached metrics until a candidate is created")
+    void shouldServeCachedMetricsUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("exact", () -> { loads.incrementAndGet(); return metrics; });
+        MetricsResponse cached = cache.get("exact", () -> { loads.incrementAndGet(); return metrics; });
+
+        assertThat(cached).isSameAs(metrics);
+        assertThat(loads).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+
+        cache.onCandidatesCreated(new CandidatesCreatedEvent(List.of()));
+        cache.get("exact", () -> { loads.incrementAndGet(); return metrics; });
+
+        assertThat(loads).hasValue(2);
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight computation between concurrent callers")
+    void shouldCoalesceConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<MetricsResponse> owner = executor.submit(() -> cache.get("exact", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return metrics;
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<MetricsResponse>> waiters = List.of(
+                    executor.submit(() -> cache.get("exact", () -> { loads.incrementAndGet(); return metrics; })),
+                    executor.submit(() -> cache.get("exact", () -> { loads.incrementAndGet(); return metrics; })),
+                    executor.submit(() -> cache.get("exact", () -> { loads.incrementAndGet(); return metrics; })));
+            while (count("coalesced") < 3.0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(owner.get(5, TimeUnit.SECONDS)).isSameAs(metrics);
+            for (Future<MetricsResponse> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(metrics);
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(count("miss")).isEqualTo(1.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not cache failures")
+    void shouldNotCacheFailures() {
+        assertThatThrownBy(() -> cache.get("exact", () -> {
+            throw new BusinessException("No hay candidatos registrados para calcular métricas");
+        })).isInstanceOf(BusinessException.class);
+
+        assertThat(cache.get("exact", () -> metrics)).isSameAs(metrics);
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should keep separate entries per key")
+    void shouldKeepSeparateEntriesPerKey() {
+        MetricsResponse approximate = MetricsResponse.builder().averageAge(31.0).sampleSize(2000).build();
+
+        cache.get("exact", () -> metrics);
+
+        assertThat(cache.get("approximate:0.95", () -> approximate)).isSameAs(approximate);
+        assertThat(cache.get("exact", () -> approximate)).isSameAs(metrics);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("candidates.metrics.cache", "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.MetricsHistoryPoint;
+import com.seek.candidatosmanagementapi.entity.CandidateMetricsHistory;
+import com.seek.candidatosmanagementapi.repository.CandidateMetricsHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsHistory Tests")
+class MetricsHistoryTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private CandidateBirthDates birthDates;
+
+    @Mock
+    private CandidateMetricsHistoryRepository historyRepository;
+
+    private MutableClock clock;
+    private MetricsHistory history;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        history = new MetricsHistory(birthDates, historyRepository, clock, 3);
+    }
+
+    @Test
+    @DisplayName("Should capture and persist snapshots computed from birth dates as of the capture day")
+    void shouldCaptureAndPersist() {
+        when(birthDates.ageStats(LocalDate.of(2025, 1, 1))).thenReturn(new AgeStats(3L, 90L, 2750L));
+
+        MetricsHistoryPoint point = history.capture();
+
+        assertThat(point.getCapturedAt()).isEqualTo(START);
+        assertThat(point.getCandidateCount()).isEqualTo(3L);
+        assertThat(point.getAverageAge()).isEqualTo(30.0);
+        verify(historyRepository).save(any(CandidateMetricsHistory.class));
+    }
+
+    @Test
+    @DisplayName("Should serve recent ranges from the ring buffer and downsample by step")
+    void shouldServeFromBufferAndDownsample() {
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(1L, 30L, 900L));
+        for (int i = 0; i < 4; i++) {
+            clock.now = START.plus(Duration.ofMinutes(5L * i));
+            history.capture();
+        }
+
+        List<MetricsHistoryPoint> all = history.range(START.plus(Duration.ofMinutes(5)), clock.now, null);
+        List<MetricsHistoryPoint> sampled = history.range(START.plus(Duration.ofMinutes(5)), clock.now, Duration.ofMinutes(10));
+
+        assertThat(all).extracting(MetricsHistoryPoint::getCapturedAt).containsExactly(
+                START.plus(Duration.ofMinutes(5)), START.plus(Duration.ofMinutes(10)), START.plus(Duration.ofMinutes(15)));
+        assertThat(sampled).extracting(MetricsHistoryPoint::getCapturedAt).containsExactly(
+                START.plus(Duration.ofMinutes(10)), START.plus(Duration.ofMinutes(15)));
+        verify(historyRepository, never()).findByCapturedAtBetweenOrderByCapturedAtAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should read the table for ranges older than the ring buffer")
+    void shouldReadTableForOlderRanges() {
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(1L, 30L, 900L));
+        history.capture();
+        Instant from = START.minus(Duration.ofDays(1));
+        when(historyRepository.findByCapturedAtBetweenOrderByCapturedAtAsc(from, START)).thenReturn(List.of(
+                new CandidateMetricsHistory(1L, from, 10L, 31.0, 4.0)));
+
+        List<MetricsHistoryPoint> points = history.range(from, START, null);
+
+        assertThat(points).extracting(MetricsHistoryPoint::getCandidateCount).containsExactly(10L);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
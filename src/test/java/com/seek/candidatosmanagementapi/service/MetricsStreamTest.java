@@ -0,0 +1,81 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.MetricsResponse;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsStream Tests")
+class MetricsStreamTest {
+
+    @Mock
+    private CandidateService service;
+
+    @Mock
+    private CandidateBirthDates birthDates;
+
+    private MetricsStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new MetricsStream(service, birthDates, Clock.systemDefaultZone(), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should compute metrics once per interval for all subscribers, bypassing the cache")
+    void shouldFanOutOneComputation() {
+        when(service.getMetrics(null, null)).thenReturn(MetricsResponse.builder().averageAge(30.0).ageStdDeviation(5.0).build());
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(2L, 60L, 1850L));
+        stream.subscribe();
+        stream.subscribe();
+        stream.subscribe();
+        verify(service, times(3)).getMetrics(null, null);
+
+        stream.publish();
+        verify(birthDates, never()).ageStats(any());
+
+        stream.onCandidatesCreated(new CandidatesCreatedEvent(List.of()));
+        stream.onCandidatesCreated(new CandidatesCreatedEvent(List.of()));
+        stream.publish();
+        stream.publish();
+
+        verify(birthDates, times(1)).ageStats(any());
+        verify(service, times(3)).getMetrics(null, null);
+        assertThat(stream.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should skip computing when nobody is subscribed")
+    void shouldSkipWithoutSubscribers() {
+        stream.onCandidatesCreated(new CandidatesCreatedEvent(List.of()));
+        stream.publish();
+
+        verifyNoInteractions(service, birthDates);
+    }
+
+    @Test
+    @DisplayName("Should keep the subscriber when there are no candidates yet")
+    void shouldKeepSubscriberWithoutCandidates() {
+        when(service.getMetrics(null, null))
+                .thenThrow(new BusinessException("No hay candidatos registrados para calcular métricas"));
+
+        stream.subscribe();
+
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.seek.candidatosmanagementapi.service;
+
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ParallelCandidateMapper Tests")
+class ParallelCandidateMapperTest {
+
+    private final CandidateResponseMapper responseMapper = new CandidateResponseMapper(Clock.systemDefaultZone());
+    private ParallelCandidateMapper parallelMapper;
+
+    @AfterEach
+    void tearDown() {
+        if (parallelMapper != null) {
+            parallelMapper.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should preserve order when mapping in chunks on the dedicated pool")
+    void shouldPreserveOrderWhenMappingInParallel() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CandidateResponseMapper recordingMapper = new CandidateResponseMapper(Clock.systemDefaultZone()) {
+            @Override
+            public CandidateResponse toResponse(CandidateRow c, BirthdayCalendar calendar, Set<CandidateField> fields) {
+                threads.add(Thread.currentThread().getName());
+                return super.toResponse(c, calendar, fields);
+            }
+        };
+        parallelMapper = new ParallelCandidateMapper(recordingMapper, true, 4, 1);
+
+        List<CandidateRow> rows = rows(ParallelCandidateMapper.MIN_CHUNK_SIZE * 8);
+        List<CandidateResponse> responses = parallelMapper.mapAll(rows, responseMapper.today(), CandidateField.ALL);
+
+        assertThat(responses).extracting(CandidateResponse::getId)
+                .containsExactlyElementsOf(rows.stream().map(CandidateRow::getId).toList());
+        assertThat(responses.get(0).getNextBirthday()).isNotNull();
+        assertThat(threads).allMatch(name -> name.startsWith("candidate-mapping-"));
+    }
+
+    @Test
+    @DisplayName("Should map sequentially below the threshold")
+    void shouldMapSequentiallyBelowThreshold() {
+        parallelMapper = new ParallelCandidateMapper(responseMapper, true, 4, 10000);
+
+        List<CandidateRow> rows = rows(10);
+        List<CandidateResponse> responses = parallelMapper.mapAll(rows, responseMapper.today(), CandidateField.ALL);
+
+        assertThat(responses).extracting(CandidateResponse::getId).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    private List<CandidateRow> rows(int count) {
+        List<CandidateRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new CandidateRow((long) i, "Nombre" + i, "Apellido" + i, 30, LocalDate.of(1990, 1, 1).plusDays(i)));
+        }
+        return rows;
+    }
+}
@@ -1,26 +1,73 @@
 package com.seek.candidatosmanagementapi.service.impl;
 
 
+import com.seek.candidatosmanagementapi.dto.AgeCount;
+import com.seek.candidatosmanagementapi.dto.AgeDistributionResponse;
+import com.seek.candidatosmanagementapi.dto.AgeStats;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResponse;
+import com.seek.candidatosmanagementapi.dto.BulkCreateResult;
+import com.seek.candidatosmanagementapi.dto.CandidatePageResponse;
 import com.seek.candidatosmanagementapi.dto.CandidateResponse;
+import com.seek.candidatosmanagementapi.dto.CandidateField;
+import com.seek.candidatosmanagementapi.dto.CandidateFilter;
+import com.seek.candidatosmanagementapi.dto.CandidateRow;
+import com.seek.candidatosmanagementapi.dto.CandidateSort;
+import com.seek.candidatosmanagementapi.dto.CohortStatsResponse;
 import com.seek.candidatosmanagementapi.dto.CreateCandidateRequest;
+import com.seek.candidatosmanagementapi.dto.IngestionStatusResponse;
 import com.seek.candidatosmanagementapi.dto.MetricsResponse;
 import com.seek.candidatosmanagementapi.entity.Candidate;
+import com.seek.candidatosmanagementapi.entity.CandidateCohortStats;
+import com.seek.candidatosmanagementapi.entity.CandidateIngestion;
+import com.seek.candidatosmanagementapi.event.CandidatesCreatedEvent;
+import com.seek.candidatosmanagementapi.exception.BadRequestException;
 import com.seek.candidatosmanagementapi.exception.BusinessException;
 import com.seek.candidatosmanagementapi.exception.DataIntegrityException;
+import com.seek.candidatosmanagementapi.exception.NotFoundException;
+import com.seek.candidatosmanagementapi.repository.CandidateAgeStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateCohortStatsRepository;
+import com.seek.candidatosmanagementapi.repository.CandidateIngestionRepository;
 import com.seek.candidatosmanagementapi.repository.CandidateRepository;
+import com.seek.candidatosmanagementapi.service.ApproximateAgeMetrics;
+import com.seek.candidatosmanagementapi.service.CandidateBatchWriter;
+import com.seek.candidatosmanagementapi.service.CandidateBirthDates;
+import com.seek.candidatosmanagementapi.service.CandidateDuplicateDetector;
+import com.seek.candidatosmanagementapi.service.CandidateGroupCommitter;
+import com.seek.candidatosmanagementapi.service.CandidateJournal;
+import com.seek.candidatosmanagementapi.service.CandidateResponseMapper;
+import com.seek.candidatosmanagementapi.service.IdempotencyKeys;
+import com.seek.candidatosmanagementapi.service.MetricsCache;
+import com.seek.candidatosmanagementapi.service.MetricsHistory;
+import com.seek.candidatosmanagementapi.service.ParallelCandidateMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,11 +80,64 @@ class CandidateServiceImplTest {
     @Mock
     private CandidateRepository repository;
 
+    @Mock
+    private CandidateAgeStatsRepository ageStatsRepository;
+
+    @Mock
+    private CandidateCohortStatsRepository cohortStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MetricsHistory metricsHistory;
+
+    @Mock
+    private ApproximateAgeMetrics approximateMetrics;
+
+    @Mock
+    private CandidateBirthDates birthDates;
+
+    @Mock
+    private CandidateDuplicateDetector duplicateDetector;
+
+    @Mock
+    private CandidateBatchWriter batchWriter;
+
+    @Mock
+    private CandidateGroupCommitter groupCommitter;
+
+    @Mock
+    private CandidateIngestionRepository ingestionRepository;
+
+    @Mock
+    private CandidateJournal journal;
+
+    @Mock
+    private IdempotencyKeys idempotencyKeys;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private CandidateResponseMapper mapper = new CandidateResponseMapper(Clock.systemDefaultZone());
+
+    @Spy
+    private ParallelCandidateMapper parallelMapper = new ParallelCandidateMapper(mapper, false, 0, 10000);
+
+    @Spy
+    private MetricsCache metricsCache = new MetricsCache(new SimpleMeterRegistry(), Duration.ZERO);
+
     @InjectMocks
     private CandidateServiceImpl candidateService;
 
     private CreateCandidateRequest validRequest;
     private Candidate candidateEntity;
+    private CandidateRow candidateRow;
+    private CandidateRow secondRow;
 
     @BeforeEach
     void setUp() {
@@ -57,12 +157,15 @@ class CandidateServiceImplTest {
                 .age(33)
                 .birthDate(birthDate)
                 .build();
+
+        candidateRow = new CandidateRow(1L, "Juan", "Pérez", 33, birthDate);
+        secondRow = new CandidateRow(2L, "María", "García", 28, LocalDate.of(1995, 3, 20));
     }
 
     @Test
     @DisplayName("Should create candidate successfully")
     void shouldCreateCandidateSuccessfully() {
-        when(repository.save(any(Candidate.class))).thenReturn(candidateEntity);
+        when(repository.saveAndFlush(any(Candidate.class))).thenReturn(candidateEntity);
 
         CandidateResponse response = candidateService.createCandidate(validRequest);
 
@@ -74,7 +177,204 @@ class CandidateServiceImplTest {
         assertThat(response.getBirthDate()).isEqualTo(LocalDate.of(1990, 5, 15));
         assertThat(response.getEstimatedEventDate()).isEqualTo(LocalDate.of(2065, 5, 15));
 
-        verify(repository, times(1)).save(any(Candidate.class));
+        verify(repository, times(1)).saveAndFlush(any(Candidate.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CandidatesCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should hand validated candidates to the group committer when enabled")
+    void shouldCreateThroughGroupCommitter() {
+        when(groupCommitter.isEnabled()).thenReturn(true);
+        when(groupCommitter.insert(any(Candidate.class))).thenReturn(candidateRow);
+
+        CandidateResponse response = candidateService.createCandidate(validRequest);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should journal validated candidates and return a pending tracking ID")
+    void shouldAcceptCandidateIntoJournal() {
+        when(journal.isEnabled()).thenReturn(true);
+        when(journal.append(any(Candidate.class))).thenReturn("6f1c2a9e-0000-4000-8000-000000000001");
+
+        IngestionStatusResponse response = candidateService.acceptCandidate(validRequest);
+
+        assertThat(response.getTrackingId()).isEqualTo("6f1c2a9e-0000-4000-8000-000000000001");
+        assertThat(response.getStatus()).isEqualTo(IngestionStatusResponse.Status.PENDING);
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
+    }
+
+    @Test
+    @DisplayName("Should reject asynchronous ingestion when the journal is disabled")
+    void shouldRejectIngestionWhenJournalDisabled() {
+        assertThatThrownBy(() -> candidateService.acceptCandidate(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("no está habilitada");
+
+        verify(journal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("Should report journaled, applied and unknown ingestions")
+    void shouldReportIngestionStatus() {
+        when(journal.isPending("pending")).thenReturn(true);
+        when(ingestionRepository.findById("applied")).thenReturn(Optional.of(CandidateIngestion.builder()
+                .trackingId("applied")
+                .status("APPLIED")
+                .candidateId(7L)
+                .appliedAt(Instant.now())
+                .build()));
+        when(ingestionRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        assertThat(candidateService.getIngestionStatus("pending").getStatus())
+                .isEqualTo(IngestionStatusResponse.Status.PENDING);
+
+        IngestionStatusResponse applied = candidateService.getIngestionStatus("applied");
+        assertThat(applied.getStatus()).isEqualTo(IngestionStatusResponse.Status.APPLIED);
+        assertThat(applied.getCandidateId()).isEqualTo(7L);
+
+        assertThatThrownBy(() -> candidateService.getIngestionStatus("unknown"))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should return the original response for a replayed Idempotency-Key without saving")
+    void shouldReplayIdempotentCreate() {
+        CandidateResponse original = mapper.toResponse(candidateRow);
+        when(idempotencyKeys.execute(eq("create"), eq("retry-42"), eq(validRequest), eq(CandidateResponse.class), any()))
+                .thenReturn(original);
+
+        CandidateResponse response = candidateService.createCandidate(validRequest, "retry-42");
+
+        assertThat(response).isSameAs(original);
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
+    }
+
+    @Test
+    @DisplayName("Should create without idempotency tracking when no key is sent")
+    void shouldCreateWithoutIdempotencyKey() {
+        when(repository.saveAndFlush(any(Candidate.class))).thenReturn(candidateEntity);
+
+        CandidateResponse response = candidateService.createCandidate(validRequest, null);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        verifyNoInteractions(idempotencyKeys);
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows in bulk and report rejected ones")
+    void shouldCreateCandidatesInBulk() {
+        CreateCandidateRequest blankName = CreateCandidateRequest.builder()
+                .firstName(" ").lastName("Pérez").age(35).birthDate(validRequest.getBirthDate()).build();
+        CreateCandidateRequest wrongAge = CreateCandidateRequest.builder()
+                .firstName("Juan").lastName("Pérez").age(20).birthDate(validRequest.getBirthDate()).build();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Candidate> entities = invocation.getArgument(0);
+            assertThat(entities).hasSize(1);
+            Candidate c = entities.get(0);
+            return List.of(new CandidateRow(7L, c.getFirstName(), c.getLastName(), c.getAge(), c.getBirthDate()));
+        });
+
+        BulkCreateResponse response = candidateService.createCandidates(Arrays.asList(validRequest, blankName, wrongAge, null));
+
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getRowsPerSecond()).isPositive();
+        assertThat(response.getResults()).extracting(BulkCreateResult::getStatus).containsExactly(
+                BulkCreateResult.Status.CREATED, BulkCreateResult.Status.REJECTED,
+                BulkCreateResult.Status.REJECTED, BulkCreateResult.Status.REJECTED);
+        assertThat(response.getResults().get(0).getId()).isEqualTo(7L);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("El nombre es obligatorio");
+        assertThat(response.getResults().get(2).getError()).contains("no coincide con la fecha de nacimiento");
+        assertThat(response.getResults().get(3).getError()).isEqualTo("El candidato es obligatorio");
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
+    }
+
+    @Test
+    @DisplayName("Should reject existing candidates without inserting")
+    void shouldRejectDuplicateCandidate() {
+        when(duplicateDetector.isDuplicate("Juan", "Pérez", validRequest.getBirthDate())).thenReturn(true);
+
+        assertThatThrownBy(() -> candidateService.createCandidate(validRequest))
+                .isInstanceOf(DataIntegrityException.class)
+                .hasMessageContaining("Ya existe un candidato");
+
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
+    }
+
+    @Test
+    @DisplayName("Should reject bulk rows that already exist or repeat within the upload")
+    void shouldRejectDuplicateBulkRows() {
+        CreateCandidateRequest maria = CreateCandidateRequest.builder()
+                .firstName("María").lastName("García").age(30).birthDate(LocalDate.of(1995, 3, 20)).build();
+        CreateCandidateRequest repeated = CreateCandidateRequest.builder()
+                .firstName(" juan ").lastName("PÉREZ").age(35).birthDate(validRequest.getBirthDate()).build();
+        when(duplicateDetector.isDuplicate("María", "García", maria.getBirthDate())).thenReturn(true);
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            Candidate c = invocation.<List<Candidate>>getArgument(0).get(0);
+            return List.of(new CandidateRow(7L, c.getFirstName(), c.getLastName(), c.getAge(), c.getBirthDate()));
+        });
+
+        BulkCreateResponse response = candidateService.createCandidates(List.of(validRequest, maria, repeated));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkCreateResult::getStatus).containsExactly(
+                BulkCreateResult.Status.CREATED, BulkCreateResult.Status.REJECTED, BulkCreateResult.Status.REJECTED);
+        assertThat(response.getResults().get(1).getError()).contains("Ya existe un candidato");
+        assertThat(response.getResults().get(2).getError()).contains("Ya existe un candidato");
+    }
+
+    @Test
+    @DisplayName("Should split a failed bulk batch and reject only the rows the database refuses")
+    void shouldSplitFailedBulkBatch() {
+        CreateCandidateRequest maria = CreateCandidateRequest.builder()
+                .firstName("María").lastName("García").age(30).birthDate(LocalDate.of(1995, 3, 20)).build();
+        CreateCandidateRequest ana = CreateCandidateRequest.builder()
+                .firstName("Ana").lastName("Torres").age(25).birthDate(LocalDate.of(2000, 1, 10)).build();
+        CreateCandidateRequest pedro = CreateCandidateRequest.builder()
+                .firstName("Pedro").lastName("Ruiz").age(40).birthDate(LocalDate.of(1985, 7, 1)).build();
+        AtomicLong ids = new AtomicLong();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Candidate> candidates = invocation.getArgument(0);
+            batchSizes.add(candidates.size());
+            assertThat(candidates).extracting(Candidate::getId).containsOnlyNulls();
+            candidates.forEach(c -> c.setId(ids.incrementAndGet()));
+            if (candidates.stream().anyMatch(c -> c.getFirstName().equals("María"))) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'ux_candidates_identity'");
+            }
+            return candidates.stream()
+                    .map(c -> new CandidateRow(c.getId(), c.getFirstName(), c.getLastName(), c.getAge(), c.getBirthDate()))
+                    .toList();
+        });
+
+        BulkCreateResponse response = candidateService.createCandidates(List.of(validRequest, maria, ana, pedro));
+
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkCreateResult::getStatus).containsExactly(
+                BulkCreateResult.Status.CREATED, BulkCreateResult.Status.REJECTED,
+                BulkCreateResult.Status.CREATED, BulkCreateResult.Status.CREATED);
+        assertThat(response.getResults().get(1).getId()).isNull();
+        assertThat(response.getResults().get(1).getError()).contains("Ya existe un candidato");
+        assertThat(response.getResults()).extracting(BulkCreateResult::getId).doesNotHaveDuplicates();
+        // Lote completo, mitad con el duplicado, cada fila de esa mitad, y la otra mitad en un solo lote
+        assertThat(batchSizes).containsExactly(4, 2, 1, 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when every bulk row is rejected")
+    void shouldSkipInsertWhenAllBulkRowsRejected() {
+        BulkCreateResponse response = candidateService.createCandidates(
+                List.of(CreateCandidateRequest.builder().firstName("Juan").lastName("Pérez").age(35).build()));
+
+        assertThat(response.getCreated()).isZero();
+        assertThat(response.getResults().get(0).getError()).isEqualTo("La fecha de nacimiento es obligatoria");
+        verifyNoInteractions(batchWriter);
     }
 
     @Test
@@ -91,7 +391,7 @@ class CandidateServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("La fecha de nacimiento no puede ser en el futuro");
 
-        verify(repository, never()).save(any(Candidate.class));
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
     }
 
     @Test
@@ -109,100 +409,318 @@ class CandidateServiceImplTest {
                 .hasMessageContaining("La edad proporcionada")
                 .hasMessageContaining("no coincide con la fecha de nacimiento");
 
-        verify(repository, never()).save(any(Candidate.class));
+        verify(repository, never()).saveAndFlush(any(Candidate.class));
     }
 
     @Test
     @DisplayName("Should throw DataIntegrityException when database constraint violation")
     void shouldThrowDataIntegrityExceptionWhenDatabaseError() {
-        when(repository.save(any(Candidate.class)))
+        when(repository.saveAndFlush(any(Candidate.class)))
                 .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
 
         assertThatThrownBy(() -> candidateService.createCandidate(validRequest))
                 .isInstanceOf(DataIntegrityException.class)
                 .hasMessage("No se pudo crear el candidato. Posible duplicación de datos.");
 
-        verify(repository, times(1)).save(any(Candidate.class));
+        verify(repository, times(1)).saveAndFlush(any(Candidate.class));
+    }
+
+    @Test
+    @DisplayName("Should throw DataIntegrityException when the duplicate surfaces at commit")
+    void shouldThrowDataIntegrityExceptionWhenCommitFails() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry for key 'ux_candidates_identity'"))
+                .when(transactionTemplate).execute(any());
+
+        assertThatThrownBy(() -> candidateService.createCandidate(validRequest))
+                .isInstanceOf(DataIntegrityException.class)
+                .hasMessage("No se pudo crear el candidato. Posible duplicación de datos.");
+
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("Should return all candidates successfully")
     void shouldReturnAllCandidatesSuccessfully() {
-        List<Candidate> candidates = Arrays.asList(
-                candidateEntity,
-                Candidate.builder()
-                        .id(2L)
-                        .firstName("María")
-                        .lastName("García")
-                        .age(28)
-                        .birthDate(LocalDate.of(1995, 3, 20))
-                        .build()
-        );
-        when(repository.findAll()).thenReturn(candidates);
-
-        List<CandidateResponse> responses = candidateService.getAllCandidates();
+        when(repository.search(null, CandidateSort.DEFAULT, null, null, CandidateField.ALL))
+                .thenReturn(Arrays.asList(candidateRow, secondRow));
+
+        List<CandidateResponse> responses = candidateService.getAllCandidates(null, null, null);
 
         assertThat(responses).hasSize(2);
         assertThat(responses.get(0).getFirstName()).isEqualTo("Juan");
         assertThat(responses.get(1).getFirstName()).isEqualTo("María");
 
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).search(null, CandidateSort.DEFAULT, null, null, CandidateField.ALL);
+        verify(repository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should return empty list when no candidates found")
     void shouldReturnEmptyListWhenNoCandidatesFound() {
-        when(repository.findAll()).thenReturn(Collections.emptyList());
+        when(repository.search(null, CandidateSort.DEFAULT, null, null, CandidateField.ALL)).thenReturn(Collections.emptyList());
 
-        List<CandidateResponse> responses = candidateService.getAllCandidates();
+        List<CandidateResponse> responses = candidateService.getAllCandidates(null, null, null);
 
         assertThat(responses).isEmpty();
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).search(null, CandidateSort.DEFAULT, null, null, CandidateField.ALL);
+    }
+
+    @Test
+    @DisplayName("Should only compute requested fields")
+    void shouldOnlyComputeRequestedFields() {
+        Set<CandidateField> requested = EnumSet.of(CandidateField.ID, CandidateField.FIRST_NAME, CandidateField.LAST_NAME);
+        when(repository.search(null, CandidateSort.DEFAULT, null, null, requested))
+                .thenReturn(List.of(CandidateRow.builder().id(1L).firstName("Juan").lastName("Pérez").build()));
+
+        List<CandidateResponse> responses = candidateService.getAllCandidates(null, null, "id, firstName,lastName");
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getLastName()).isEqualTo("Pérez");
+        assertThat(responses.get(0).getBirthDate()).isNull();
+        assertThat(responses.get(0).getNextBirthday()).isNull();
+        assertThat(responses.get(0).getAgeInMonths()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException for unknown field")
+    void shouldThrowBadRequestForUnknownField() {
+        assertThatThrownBy(() -> candidateService.getAllCandidates(null, null, "id,salary"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("El campo 'salary' no existe");
+
+        verify(repository, never()).search(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return page with next cursor when more candidates exist")
+    void shouldReturnPageWithNextCursor() {
+        CandidateSort byAgeDesc = CandidateSort.parse("age,desc");
+        when(repository.search(null, byAgeDesc, null, 2, CandidateField.ALL))
+                .thenReturn(Arrays.asList(candidateRow, secondRow));
+
+        CandidatePageResponse page = candidateService.getCandidatesPage(null, "age,desc", null, null, 1);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getId()).isEqualTo(1L);
+        assertThat(page.getNextCursor()).isEqualTo(CandidateCursor.encode(byAgeDesc, candidateRow));
+
+        CandidateRow keyset = CandidateRow.builder().id(1L).age(33).build();
+        when(repository.search(null, byAgeDesc, keyset, 2, CandidateField.ALL))
+                .thenReturn(List.of(secondRow));
+
+        CandidatePageResponse last = candidateService.getCandidatesPage(null, "age,desc", null, page.getNextCursor(), 1);
+
+        assertThat(last.getItems()).extracting(CandidateResponse::getId).containsExactly(2L);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should get the oldest candidates by ascending birth date")
+    void shouldGetTopOldestCandidates() {
+        when(repository.search(null, CandidateSort.parse("birthDate,asc"), null, 2, CandidateField.ALL))
+                .thenReturn(Arrays.asList(candidateRow, secondRow));
+
+        List<CandidateResponse> top = candidateService.getTopCandidates("age", "desc", 2);
+
+        assertThat(top).extracting(CandidateResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should get the youngest candidates and reject invalid top parameters")
+    void shouldGetTopYoungestAndRejectInvalid() {
+        when(repository.search(null, CandidateSort.parse("birthDate,desc"), null, 1, CandidateField.ALL))
+                .thenReturn(List.of(secondRow));
+
+        assertThat(candidateService.getTopCandidates(null, "asc", 1))
+                .extracting(CandidateResponse::getId).containsExactly(2L);
+
+        assertThatThrownBy(() -> candidateService.getTopCandidates("lastName", null, 1))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("El top solo se puede calcular por age o birthDate");
+        assertThatThrownBy(() -> candidateService.getTopCandidates("age", "up", 1))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("El orden del top debe ser asc o desc");
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when cursor is tampered")
+    void shouldThrowBadRequestWhenCursorInvalid() {
+        assertThatThrownBy(() -> candidateService.getCandidatesPage(null, null, null, "no-es-un-cursor", 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("El cursor de paginación no es válido");
+
+        verify(repository, never()).search(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject cursor issued for a different sort")
+    void shouldRejectCursorFromDifferentSort() {
+        String cursor = CandidateCursor.encode(CandidateSort.DEFAULT, candidateRow);
+
+        assertThatThrownBy(() -> candidateService.getCandidatesPage(null, "lastName", null, cursor, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("El cursor de paginación no corresponde al ordenamiento solicitado");
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException for unknown sort field or inverted ranges")
+    void shouldThrowBadRequestForInvalidFilterOrSort() {
+        assertThatThrownBy(() -> candidateService.getAllCandidates(null, "salary,desc", null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("No se puede ordenar por 'salary'");
+
+        CandidateFilter inverted = CandidateFilter.builder().minAge(40).maxAge(20).build();
+        assertThatThrownBy(() -> candidateService.getAllCandidates(inverted, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("La edad mínima no puede ser mayor que la edad máxima");
+
+        verify(repository, never()).search(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should stream candidates in order")
+    void shouldStreamCandidatesInOrder() {
+        when(repository.streamAllRows()).thenReturn(Stream.of(candidateRow, secondRow));
+
+        List<CandidateResponse> streamed = new ArrayList<>();
+        candidateService.streamAllCandidates(streamed::add);
+
+        assertThat(streamed).extracting(CandidateResponse::getId).containsExactly(1L, 2L);
     }
 
     @Test
     @DisplayName("Should calculate metrics successfully")
     void shouldCalculateMetricsSuccessfully() {
-        List<Candidate> candidates = Arrays.asList(
-                Candidate.builder().age(25).build(),
-                Candidate.builder().age(30).build(),
-                Candidate.builder().age(35).build()
-        );
-        when(repository.findAll()).thenReturn(candidates);
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(3L, 90L, 2750L));
 
-        MetricsResponse metrics = candidateService.getMetrics();
+        MetricsResponse metrics = candidateService.getMetrics(null, null);
 
         assertThat(metrics.getAverageAge()).isEqualTo(30.0);
         assertThat(metrics.getAgeStdDeviation()).isCloseTo(4.08, within(0.1));
 
-        verify(repository, times(1)).findAll();
+        verify(ageStatsRepository, never()).sumSlots();
+        verify(repository, never()).aggregateAgeStats();
     }
 
     @Test
     @DisplayName("Should throw BusinessException when no candidates for metrics")
     void shouldThrowBusinessExceptionWhenNoCandidatesForMetrics() {
-        when(repository.findAll()).thenReturn(Collections.emptyList());
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(0L, 0L, 0L));
 
-        assertThatThrownBy(() -> candidateService.getMetrics())
+        assertThatThrownBy(() -> candidateService.getMetrics(null, null))
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("No hay candidatos registrados para calcular métricas");
 
-        verify(repository, times(1)).findAll();
+        verify(ageStatsRepository, never()).sumSlots();
     }
 
     @Test
     @DisplayName("Should calculate standard deviation correctly for single candidate")
     void shouldCalculateStdDeviationForSingleCandidate() {
-        List<Candidate> candidates = Arrays.asList(
-                Candidate.builder().age(25).build()
-        );
-        when(repository.findAll()).thenReturn(candidates);
+        when(birthDates.ageStats(any())).thenReturn(new AgeStats(1L, 25L, 625L));
 
-        MetricsResponse metrics = candidateService.getMetrics();
+        MetricsResponse metrics = candidateService.getMetrics(null, null);
 
         assertThat(metrics.getAverageAge()).isEqualTo(25.0);
         assertThat(metrics.getAgeStdDeviation()).isEqualTo(0.0);
+    }
 
-        verify(repository, times(1)).findAll();
+    @Test
+    @DisplayName("Should calculate age distribution from the histogram")
+    void shouldCalculateAgeDistribution() {
+        long[] counts = new long[CandidateBirthDates.MAX_AGE + 1];
+        counts[25] = 2;
+        counts[30] = 5;
+        counts[40] = 2;
+        counts[60] = 1;
+        when(birthDates.ageCounts(any())).thenReturn(counts);
+
+        AgeDistributionResponse distribution = candidateService.getAgeDistribution();
+
+        assertThat(distribution.getTotal()).isEqualTo(10L);
+        assertThat(distribution.getMinAge()).isEqualTo(25);
+        assertThat(distribution.getMaxAge()).isEqualTo(60);
+        assertThat(distribution.getModeAge()).isEqualTo(30);
+        assertThat(distribution.getPercentiles())
+                .containsEntry("p50", 30)
+                .containsEntry("p90", 40)
+                .containsEntry("p99", 60);
+        assertThat(distribution.getHistogram()).extracting(AgeCount::getAge).containsExactly(25, 30, 40, 60);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when histogram is empty")
+    void shouldThrowBusinessExceptionWhenHistogramEmpty() {
+        when(birthDates.ageCounts(any())).thenReturn(new long[CandidateBirthDates.MAX_AGE + 1]);
+
+        assertThatThrownBy(() -> candidateService.getAgeDistribution())
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("No hay candidatos registrados para calcular métricas");
+    }
+
+    @Test
+    @DisplayName("Should group yearly cohort rows into decades")
+    void shouldGroupCohortsByDecade() {
+        when(cohortStatsRepository.findAllByOrderByBirthYearAsc()).thenReturn(List.of(
+                new CandidateCohortStats(1988, 2L, 70L),
+                new CandidateCohortStats(1990, 1L, 35L),
+                new CandidateCohortStats(1995, 3L, 90L)));
+
+        List<CohortStatsResponse> decades = candidateService.getCohortMetrics("decade");
+        List<CohortStatsResponse> years = candidateService.getCohortMetrics("year");
+
+        assertThat(decades).extracting(CohortStatsResponse::getCohort).containsExactly(1980, 1990);
+        assertThat(decades.get(1).getCandidateCount()).isEqualTo(4L);
+        assertThat(decades.get(1).getAverageAge()).isEqualTo(31.25);
+        assertThat(years).extracting(CohortStatsResponse::getCohort).containsExactly(1988, 1990, 1995);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException for unknown cohort granularity")
+    void shouldThrowBadRequestForUnknownGranularity() {
+        assertThatThrownBy(() -> candidateService.getCohortMetrics("month"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("La granularidad debe ser decade o year");
+
+        verifyNoInteractions(cohortStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Should pass parsed step to metrics history and reject invalid ranges")
+    void shouldQueryMetricsHistory() {
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-02T00:00:00Z");
+        when(metricsHistory.range(from, to, Duration.ofHours(1))).thenReturn(List.of());
+
+        assertThat(candidateService.getMetricsHistory(from, to, "PT1H")).isEmpty();
+
+        assertThatThrownBy(() -> candidateService.getMetricsHistory(to, from, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("La fecha from no puede ser posterior a to");
+        assertThatThrownBy(() -> candidateService.getMetricsHistory(from, to, "1 hora"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("duración ISO-8601");
+        verify(metricsHistory, times(1)).range(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should delegate approximate metrics with the table size and validate the confidence")
+    void shouldDelegateApproximateMetrics() {
+        MetricsResponse estimate = MetricsResponse.builder().averageAge(30.1).ageStdDeviation(4.0).sampleSize(2000).build();
+        when(ageStatsRepository.sumSlots()).thenReturn(new AgeStats(1_000_000L, 30_000_000L, 916_000_000L));
+        when(approximateMetrics.estimate(1_000_000L, 0.99)).thenReturn(estimate);
+
+        assertThat(candidateService.getMetrics("approximate", 0.99)).isSameAs(estimate);
+
+        assertThatThrownBy(() -> candidateService.getMetrics("approximate", 1.5))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("La confianza debe ser 0.80, 0.90, 0.95 o 0.99");
+        assertThatThrownBy(() -> candidateService.getMetrics("approximate", 0.951))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> candidateService.getMetrics("fast", null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("El modo de métricas debe ser exact o approximate");
     }
-}
\ No newline at end of file
+}